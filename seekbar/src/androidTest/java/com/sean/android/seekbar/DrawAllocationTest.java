@@ -0,0 +1,205 @@
+package com.sean.android.seekbar;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.os.Debug;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.view.MotionEvent;
+import android.view.View;
+
+import com.sean.android.seekbar.framerangseekbar.FrameRangeSeekBar;
+import com.sean.android.seekbar.multithumbseekbar.MultiThumbRangeBar;
+import com.sean.android.seekbar.tickseekbar.TickRangeBar;
+import com.sean.android.seekbar.util.PixelUtil;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * onDraw와 Touch 처리 중 객체를 할당하지 않는지 확인하는 테스트
+ * View와 Canvas가 필요하므로 기기에서 실행하며, Debug의 Thread 할당 횟수로 검사함
+ */
+@RunWith(AndroidJUnit4.class)
+public class DrawAllocationTest {
+
+    private static final int WIDTH = 1080;
+    private static final int WARM_UP_COUNT = 10;
+    private static final int REPEAT_COUNT = 200;
+
+    @Test
+    public void frameRangeSeekBarDrawsWithoutAllocation() throws Exception {
+        runOnMainSync(new AllocationCheck() {
+            @Override
+            void check() {
+                Context context = InstrumentationRegistry.getTargetContext();
+                FrameRangeSeekBar<Integer> seekBar = new FrameRangeSeekBar<>(context);
+                seekBar.setSlowMotionVideo(true);
+                List<Bitmap> frames = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    frames.add(Bitmap.createBitmap(320, 180, Bitmap.Config.ARGB_8888));
+                }
+                seekBar.setFrames(frames);
+                layout(seekBar);
+                Canvas canvas = createCanvas(seekBar);
+
+                seekBar.setPlaying(false);
+                assertDrawAllocationFree(seekBar, canvas);
+
+                seekBar.setPlaying(true);
+                assertDrawAllocationFree(seekBar, canvas);
+                seekBar.release();
+            }
+        });
+    }
+
+    @Test
+    public void frameRangeSeekBarTracksTouchWithoutAllocation() throws Exception {
+        runOnMainSync(new AllocationCheck() {
+            @Override
+            void check() {
+                Context context = InstrumentationRegistry.getTargetContext();
+                FrameRangeSeekBar<Integer> seekBar = new FrameRangeSeekBar<>(context);
+                layout(seekBar);
+
+                // 왼쪽 Thumb(Default Padding + Thumb 절반 위치)을 잡고 오른쪽으로 이동
+                Bitmap thumbImage = BitmapFactory.decodeResource(context.getResources(), R.drawable.btn_control_frame_left);
+                float x = PixelUtil.dpToPx(context, 50) + thumbImage.getWidth() / 2f;
+                float y = seekBar.getHeight() - 1;
+                assertTouchAllocationFree(seekBar, x, y);
+                seekBar.release();
+            }
+        });
+    }
+
+    @Test
+    public void tickRangeBarDrawsAndTracksTouchWithoutAllocation() throws Exception {
+        runOnMainSync(new AllocationCheck() {
+            @Override
+            void check() {
+                Context context = InstrumentationRegistry.getTargetContext();
+                TickRangeBar tickRangeBar = new TickRangeBar(context);
+                layout(tickRangeBar);
+                Canvas canvas = createCanvas(tickRangeBar);
+
+                assertDrawAllocationFree(tickRangeBar, canvas);
+                assertTouchAllocationFree(tickRangeBar, tickRangeBar.getHeight() / 2f, tickRangeBar.getHeight() / 2f);
+            }
+        });
+    }
+
+    @Test
+    public void multiThumbRangeBarDrawsAndTracksTouchWithoutAllocation() throws Exception {
+        runOnMainSync(new AllocationCheck() {
+            @Override
+            void check() {
+                Context context = InstrumentationRegistry.getTargetContext();
+                MultiThumbRangeBar rangeBar = new MultiThumbRangeBar(context);
+                rangeBar.setRange(0, 100);
+                rangeBar.setThumbValues(0, 25, 50, 50, 75, 100);
+                layout(rangeBar);
+                Canvas canvas = createCanvas(rangeBar);
+
+                assertDrawAllocationFree(rangeBar, canvas);
+
+                // 가운데 겹친 Thumb(50)을 잡고 오른쪽으로 이동
+                assertTouchAllocationFree(rangeBar, rangeBar.getWidth() / 2f + 1, rangeBar.getHeight() / 2f);
+                assertEquals(50, rangeBar.getThumbValue(2));
+            }
+        });
+    }
+
+    private static void layout(View view) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+    }
+
+    private static Canvas createCanvas(View view) {
+        return new Canvas(Bitmap.createBitmap(view.getWidth(), view.getHeight(), Bitmap.Config.ARGB_8888));
+    }
+
+    private static void assertDrawAllocationFree(View view, Canvas canvas) {
+        // 첫 onDraw에서 준비되는 합성 Bitmap 등은 제외
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            view.draw(canvas);
+        }
+
+        startAllocCounting();
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            view.draw(canvas);
+        }
+        assertEquals("allocations during onDraw", 0, stopAllocCounting());
+    }
+
+    private static void assertTouchAllocationFree(View view, float x, float y) {
+        long downTime = SystemClock.uptimeMillis();
+        MotionEvent down = MotionEvent.obtain(downTime, downTime, MotionEvent.ACTION_DOWN, x, y, 0);
+        MotionEvent move = MotionEvent.obtain(downTime, downTime, MotionEvent.ACTION_MOVE, x, y, 0);
+        MotionEvent up = MotionEvent.obtain(downTime, downTime, MotionEvent.ACTION_UP, x, y, 0);
+
+        view.onTouchEvent(down);
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            move.setLocation(x + i, y);
+            view.onTouchEvent(move);
+        }
+
+        startAllocCounting();
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            move.setLocation(x + (i % (WIDTH / 2)), y);
+            view.onTouchEvent(move);
+        }
+        int allocCount = stopAllocCounting();
+
+        view.onTouchEvent(up);
+        down.recycle();
+        move.recycle();
+        up.recycle();
+        assertEquals("allocations during touch tracking", 0, allocCount);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void startAllocCounting() {
+        Debug.resetThreadAllocCount();
+        Debug.startAllocCounting();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int stopAllocCounting() {
+        Debug.stopAllocCounting();
+        return Debug.getThreadAllocCount();
+    }
+
+    private static void runOnMainSync(AllocationCheck check) throws Exception {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(check);
+        if (check.error != null) {
+            throw new Exception(check.error);
+        }
+    }
+
+    /**
+     * View는 Main Thread에서 만들고 그려야 하므로 Main Thread에서 실행하고 실패를 테스트 Thread로 전달
+     */
+    private abstract static class AllocationCheck implements Runnable {
+        private Throwable error;
+
+        abstract void check();
+
+        @Override
+        public final void run() {
+            try {
+                check();
+            } catch (Throwable t) {
+                error = t;
+            }
+        }
+    }
+}
@@ -53,4 +53,50 @@ public  enum NumberType {
         }
         throw new InstantiationError("can't convert " + this + " to a Number object");
     }
+
+    /**
+     * 정수 값을 double을 거치지 않고 변환, LONG Type에서 2^53을 넘는 값도 정확히 return
+     */
+    public Number toNumber(long value) {
+        switch (this) {
+            case LONG:
+                return value;
+            case DOUBLE:
+                return (double) value;
+            case INTEGER:
+                return (int) value;
+            case FLOAT:
+                return (float) value;
+            case SHORT:
+                return (short) value;
+            case BYTE:
+                return (byte) value;
+            case BIG_DECIMAL:
+                return BigDecimal.valueOf(value);
+        }
+        throw new InstantiationError("can't convert " + this + " to a Number object");
+    }
+
+    /**
+     * toNumber(value).doubleValue()와 같은 값을 객체 생성 없이 return
+     */
+    public double toPrimitive(double value) {
+        switch (this) {
+            case LONG:
+                return (long) value;
+            case DOUBLE:
+                return value;
+            case INTEGER:
+                return (int) value;
+            case FLOAT:
+                return (float) value;
+            case SHORT:
+                return (short) value;
+            case BYTE:
+                return (byte) value;
+            case BIG_DECIMAL:
+                return value;
+        }
+        throw new InstantiationError("can't convert " + this + " to a primitive value");
+    }
 }
@@ -0,0 +1,116 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import com.sean.android.seekbar.NumberType;
+
+/**
+ * FrameRangeSeekBar의 값을 long 단위(tick)로 표현하는 Class
+ * 정수 Type은 1 tick = 1, 실수 Type은 기존과 같이 소수점 두자리까지 표현하도록 1 tick = 0.01
+ * Step 적용은 정수 연산으로 처리하고, double 변환은 화면 좌표(0.0 ~ 1.0) 변환에만 사용하여
+ * 정규화와 역변환을 반복해도 값이 바뀌지 않도록 함
+ */
+class FixedPointTimeline {
+
+    private static final long FLOATING_POINT_SCALE = 100;
+
+    private NumberType numberType = NumberType.INTEGER;
+    private long scale = 1;
+    private long minTicks = 0;
+    private long maxTicks = 0;
+    private long stepTicks = 1;
+
+    void setRange(NumberType numberType, Number minValue, Number maxValue, Number stepValue) {
+        this.numberType = numberType;
+        this.scale = isIntegral(numberType) ? 1 : FLOATING_POINT_SCALE;
+        this.minTicks = valueToTicks(minValue);
+        this.maxTicks = valueToTicks(maxValue);
+        this.stepTicks = Math.max(1, Math.abs(valueToTicks(stepValue)));
+    }
+
+    long getMinTicks() {
+        return minTicks;
+    }
+
+    long getMaxTicks() {
+        return maxTicks;
+    }
+
+    long valueToTicks(Number value) {
+        if (scale == 1) {
+            return value.longValue();
+        }
+        return valueToTicks(value.doubleValue());
+    }
+
+    long valueToTicks(double value) {
+        return Math.round(value * scale);
+    }
+
+    /**
+     * Tick을 NumberType에 맞는 값으로 변환
+     * double로 return 하므로 정수 Type도 2^53을 넘는 값은 정확하지 않음, 정확한 값은 ticksToLong 또는 ticksToNumber를 사용
+     */
+    double ticksToValue(long ticks) {
+        return numberType.toPrimitive(scale == 1 ? ticks : ticks / (double) scale);
+    }
+
+    /**
+     * 정수 Type에서는 long 범위 전체를 정확히 return
+     */
+    long ticksToLong(long ticks) {
+        return scale == 1 ? ticks : (long) ticksToValue(ticks);
+    }
+
+    /**
+     * Tick을 NumberType의 객체로 변환, 정수 Type은 double을 거치지 않으므로 long 범위 전체가 정확히 표현됨
+     */
+    Number ticksToNumber(long ticks) {
+        return scale == 1 ? numberType.toNumber(ticks) : numberType.toNumber(ticksToValue(ticks));
+    }
+
+    /**
+     * 화면 좌표 변환용 0.0 ~ 1.0 값
+     */
+    double ticksToNormalized(long ticks) {
+        long range = maxTicks - minTicks;
+        if (range == 0) {
+            // 0으로 나누는 것을 피하기 위해 0을 return
+            return 0d;
+        }
+        return (ticks - minTicks) / (double) range;
+    }
+
+    long normalizedToTicks(double normalized) {
+        return clamp(minTicks + Math.round(normalized * (maxTicks - minTicks)));
+    }
+
+    /**
+     * Step 단위로 반올림, 기존과 같이 0을 기준으로 Step을 적용하고 범위 안으로 제한
+     */
+    long roundToStep(long ticks) {
+        long quotient = ticks / stepTicks;
+        long remainder = ticks % stepTicks;
+        // Math.round와 같이 .5는 양의 방향으로 반올림
+        if (remainder * 2 >= stepTicks) {
+            quotient++;
+        } else if (remainder * 2 < -stepTicks) {
+            quotient--;
+        }
+        return clamp(quotient * stepTicks);
+    }
+
+    private long clamp(long ticks) {
+        return Math.max(minTicks, Math.min(maxTicks, ticks));
+    }
+
+    private static boolean isIntegral(NumberType numberType) {
+        switch (numberType) {
+            case LONG:
+            case INTEGER:
+            case SHORT:
+            case BYTE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
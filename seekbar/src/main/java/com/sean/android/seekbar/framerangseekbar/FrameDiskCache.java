@@ -0,0 +1,409 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+
+import com.sean.android.seekbar.util.BitmapPool;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * FrameSource에서 추출된 Frame을 압축하여 저장하는 Disk Cache
+ * Process가 종료된 후에도 동영상 Decode 없이 Frame을 다시 불러올 수 있도록 함
+ * <p>
+ * Frame은 Key별 JPEG 파일로 저장하고, 목록은 고정 크기 Record로 이루어진 index 파일에 저장함
+ * index 파일은 memory-mapped ByteBuffer로 읽고 쓰며, Record 순서가 곧 LRU 순서(오래된 것부터)임
+ * Key와 index 파일에는 CACHE_VERSION이 포함되어 형식이 바뀌면 기존 Cache는 모두 삭제됨
+ */
+public class FrameDiskCache {
+
+    private static final int CACHE_VERSION = 1;
+    private static final int INDEX_MAGIC = 0x46524D43; // "FRMC"
+
+    private static final String DIRECTORY_NAME = "frame_cache";
+    private static final String INDEX_FILE_NAME = "index";
+    private static final String FRAME_FILE_EXTENSION = ".jpg";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private static final int HEADER_SIZE = 12; // magic, version, record count
+    private static final int RECORD_SIZE = 20; // key hash, value, type
+
+    private static final int TYPE_FRAME = 0; // value는 Frame 파일의 byte 크기
+    private static final int TYPE_DURATION = 1; // value는 Source의 길이(us)
+
+    private static final int DEFAULT_MAX_SIZE = 32 * 1024 * 1024;
+    private static final int COMPRESS_QUALITY = 85;
+
+    private static FrameDiskCache instance;
+
+    private final File directory;
+    private final File indexFile;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(0, 0.75f, true);
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor();
+
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private long size;
+    private boolean isLoaded = false;
+    private boolean isIndexWriteScheduled = false;
+
+    public static synchronized FrameDiskCache getInstance(Context context) {
+        if (instance == null) {
+            instance = new FrameDiskCache(new File(context.getApplicationContext().getCacheDir(), DIRECTORY_NAME));
+        }
+        return instance;
+    }
+
+    public FrameDiskCache(File directory) {
+        this.directory = directory;
+        this.indexFile = new File(directory, INDEX_FILE_NAME);
+    }
+
+    public synchronized void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+        if (isLoaded) {
+            trimToSize();
+            scheduleIndexWrite();
+        }
+    }
+
+    /**
+     * 저장된 Frame을 width x height 크기로 Decode, 가능한 경우 BitmapPool의 Bitmap을 재사용함
+     * Worker Thread에서 호출해야 함
+     *
+     * @return 저장된 Frame이 없거나 읽을 수 없는 경우 null
+     */
+    public Bitmap get(String sourceId, long timeUs, int width, int height, Bitmap.Config config, BitmapPool bitmapPool) {
+        long keyHash = hash(frameKey(sourceId, timeUs, width, height, config));
+        File file;
+        synchronized (this) {
+            ensureLoaded();
+            Entry entry = entries.get(keyHash);
+            if (entry == null || entry.type != TYPE_FRAME) {
+                return null;
+            }
+            file = getFrameFile(keyHash);
+            scheduleIndexWrite(); // 접근 순서가 바뀌었으므로 index를 다시 기록
+        }
+
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        bitmapPool.prepareOptions(options, width, height, config);
+        Bitmap bitmap;
+        try {
+            bitmap = BitmapFactory.decodeFile(file.getPath(), options);
+        } catch (IllegalArgumentException e) {
+            // inBitmap으로 재사용할 수 없는 경우 새로 Decode
+            bitmapPool.put(options.inBitmap);
+            options.inBitmap = null;
+            bitmap = BitmapFactory.decodeFile(file.getPath(), options);
+        }
+
+        if (bitmap == null) {
+            bitmapPool.put(options.inBitmap);
+            synchronized (this) {
+                removeEntry(keyHash);
+                scheduleIndexWrite();
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Frame을 압축하여 저장, 실제 저장은 별도의 Thread에서 진행됨
+     * 저장이 끝날때까지 bitmap은 recycle 되지 않아야 함
+     */
+    public void put(String sourceId, long timeUs, final Bitmap bitmap) {
+        final long keyHash = hash(frameKey(sourceId, timeUs, bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig()));
+        writeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                writeFrame(keyHash, bitmap);
+            }
+        });
+    }
+
+    public synchronized void putDurationUs(String sourceId, long durationUs) {
+        ensureLoaded();
+        long keyHash = hash(durationKey(sourceId));
+        Entry entry = entries.get(keyHash);
+        if (entry != null && entry.value == durationUs) {
+            return;
+        }
+        entries.put(keyHash, new Entry(keyHash, durationUs, TYPE_DURATION));
+        scheduleIndexWrite();
+    }
+
+    /**
+     * @return 저장된 Source의 길이(us), 없는 경우 -1
+     */
+    public synchronized long getDurationUs(String sourceId) {
+        ensureLoaded();
+        Entry entry = entries.get(hash(durationKey(sourceId)));
+        return entry == null || entry.type != TYPE_DURATION ? -1 : entry.value;
+    }
+
+    public synchronized void clear() {
+        ensureLoaded();
+        entries.clear();
+        size = 0;
+        deleteDirectoryFiles();
+    }
+
+    public synchronized long getSize() {
+        ensureLoaded();
+        return size;
+    }
+
+    private void writeFrame(long keyHash, Bitmap bitmap) {
+        synchronized (this) {
+            ensureLoaded();
+            if (entries.containsKey(keyHash) || bitmap.isRecycled()) {
+                return;
+            }
+        }
+
+        File file = getFrameFile(keyHash);
+        File tempFile = new File(directory, Long.toHexString(keyHash) + TEMP_FILE_EXTENSION);
+        FileOutputStream outputStream = null;
+        boolean isWritten = false;
+        try {
+            outputStream = new FileOutputStream(tempFile);
+            isWritten = bitmap.compress(Bitmap.CompressFormat.JPEG, COMPRESS_QUALITY, outputStream);
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            closeQuietly(outputStream);
+        }
+
+        if (!isWritten || !tempFile.renameTo(file)) {
+            tempFile.delete();
+            return;
+        }
+
+        synchronized (this) {
+            long length = file.length();
+            entries.put(keyHash, new Entry(keyHash, length, TYPE_FRAME));
+            size += length;
+            trimToSize();
+            scheduleIndexWrite();
+        }
+    }
+
+    /**
+     * 전체 크기가 maxSize보다 커지면 가장 오래 사용되지 않은 Frame부터 삭제
+     */
+    private void trimToSize() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.type == TYPE_FRAME) {
+                iterator.remove();
+                size -= entry.value;
+                getFrameFile(entry.keyHash).delete();
+            }
+        }
+    }
+
+    private void removeEntry(long keyHash) {
+        Entry entry = entries.remove(keyHash);
+        if (entry != null && entry.type == TYPE_FRAME) {
+            size -= entry.value;
+            getFrameFile(keyHash).delete();
+        }
+    }
+
+    private void scheduleIndexWrite() {
+        if (isIndexWriteScheduled) {
+            return;
+        }
+        isIndexWriteScheduled = true;
+        writeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                writeIndex();
+            }
+        });
+    }
+
+    private synchronized void writeIndex() {
+        isIndexWriteScheduled = false;
+
+        RandomAccessFile file = null;
+        try {
+            int length = HEADER_SIZE + entries.size() * RECORD_SIZE;
+            file = new RandomAccessFile(indexFile, "rw");
+            FileChannel channel = file.getChannel();
+            channel.truncate(length);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.putInt(INDEX_MAGIC);
+            buffer.putInt(CACHE_VERSION);
+            buffer.putInt(entries.size());
+            for (Entry entry : entries.values()) {
+                buffer.putLong(entry.keyHash);
+                buffer.putLong(entry.value);
+                buffer.putInt(entry.type);
+            }
+            buffer.force();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            closeQuietly(file);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (isLoaded) {
+            return;
+        }
+        isLoaded = true;
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            return;
+        }
+        if (!indexFile.exists()) {
+            deleteDirectoryFiles();
+            return;
+        }
+
+        RandomAccessFile file = null;
+        try {
+            file = new RandomAccessFile(indexFile, "r");
+            FileChannel channel = file.getChannel();
+            long length = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+
+            if (length < HEADER_SIZE || buffer.getInt() != INDEX_MAGIC || buffer.getInt() != CACHE_VERSION) {
+                throw new IOException("unsupported frame cache index");
+            }
+            int count = buffer.getInt();
+            if (count < 0 || HEADER_SIZE + (long) count * RECORD_SIZE > length) {
+                throw new IOException("corrupted frame cache index");
+            }
+
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(buffer.getLong(), buffer.getLong(), buffer.getInt());
+                entries.put(entry.keyHash, entry);
+                if (entry.type == TYPE_FRAME) {
+                    size += entry.value;
+                }
+            }
+            deleteUnknownFiles();
+        } catch (IOException e) {
+            // Version이 다르거나 손상된 index는 Cache 전체를 삭제
+            entries.clear();
+            size = 0;
+            deleteDirectoryFiles();
+        } finally {
+            closeQuietly(file);
+        }
+    }
+
+    /**
+     * index가 기록되기 전에 Process가 종료되어 목록에 없는 Frame 파일을 삭제
+     */
+    private void deleteUnknownFiles() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (name.equals(INDEX_FILE_NAME)) {
+                continue;
+            }
+            boolean isKnown = false;
+            if (name.endsWith(FRAME_FILE_EXTENSION)) {
+                long keyHash = parseKeyHash(name.substring(0, name.length() - FRAME_FILE_EXTENSION.length()));
+                isKnown = entries.containsKey(keyHash);
+            }
+            if (!isKnown) {
+                file.delete();
+            }
+        }
+    }
+
+    private void deleteDirectoryFiles() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
+    private File getFrameFile(long keyHash) {
+        return new File(directory, Long.toHexString(keyHash) + FRAME_FILE_EXTENSION);
+    }
+
+    private static String frameKey(String sourceId, long timeUs, int width, int height, Bitmap.Config config) {
+        return CACHE_VERSION + "|frame|" + sourceId + "|" + timeUs + "|" + width + "x" + height + "|" + config;
+    }
+
+    private static String durationKey(String sourceId) {
+        return CACHE_VERSION + "|duration|" + sourceId;
+    }
+
+    /**
+     * Long.toHexString으로 만든 파일 이름을 다시 Key Hash로 변환, 형식이 다른 경우 0을 return
+     */
+    private static long parseKeyHash(String hex) {
+        if (hex.isEmpty() || hex.length() > 16) {
+            return 0;
+        }
+        long keyHash = 0;
+        for (int i = 0; i < hex.length(); i++) {
+            int digit = Character.digit(hex.charAt(i), 16);
+            if (digit < 0) {
+                return 0;
+            }
+            keyHash = (keyHash << 4) | digit;
+        }
+        return keyHash;
+    }
+
+    /**
+     * 64bit FNV-1a Hash
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static class Entry {
+        private final long keyHash;
+        private final long value;
+        private final int type;
+
+        Entry(long keyHash, long value, int type) {
+            this.keyHash = keyHash;
+            this.value = value;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+import com.sean.android.seekbar.util.BitmapPool;
+import com.sean.android.seekbar.util.BitmapScaler;
+import com.sean.android.seekbar.util.BitmapUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FrameSource로부터 Frame을 Background에서 추출하여 Slot 단위로 전달하는 Class
+ * 추출된 Frame은 ThumbnailCache에 저장되며, Cache에 있는 Frame은 다시 추출하지 않음
+ * 모든 FrameExtractor는 크기가 제한된 하나의 Worker Pool을 공유하며, priority 값이 작은 Slot부터 추출함
+ * Source에서 추출한 Frame은 어느 방향의 화면에서도 Slot을 덮는 크기(Source Tier)로 한번만 Decode 하여 Cache 해두고,
+ * 화면 회전 등으로 Slot 크기가 바뀐 경우 동영상을 다시 Decode하지 않고 Tier에서 줄여서 만듦
+ * request, cancel 및 Callback은 모두 Main Thread에서 호출됨
+ */
+class FrameExtractor {
+
+    private static final int MAXIMUM_POOL_SIZE = Math.max(1, Math.min(3, Runtime.getRuntime().availableProcessors() - 1));
+    private static final int KEEP_ALIVE_SECONDS = 3;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private static final ThreadPoolExecutor EXECUTOR;
+
+    private static final ThreadLocal<BitmapScaler> SCALER = new ThreadLocal<BitmapScaler>() {
+        @Override
+        protected BitmapScaler initialValue() {
+            return new BitmapScaler();
+        }
+    };
+
+    static {
+        EXECUTOR = new ThreadPoolExecutor(MAXIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                return new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                        runnable.run();
+                    }
+                }, "FrameExtractor #" + count.getAndIncrement());
+            }
+        });
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    interface Callback {
+        void onFrameExtracted(int index, Bitmap frame);
+    }
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final BitmapPool bitmapPool = BitmapPool.getInstance();
+    private final ThumbnailCache thumbnailCache = ThumbnailCache.getInstance();
+    private final Callback callback;
+    private final List<FrameTask> pendingTasks = new ArrayList<>();
+
+    private volatile int generation = 0;
+
+    private FrameSource source;
+    private FrameDiskCache diskCache;
+    private int frameCount;
+    private int frameWidth;
+    private int frameHeight;
+    private int tierWidth;
+    private int tierHeight;
+    private Bitmap.Config frameConfig;
+
+    FrameExtractor(Callback callback) {
+        this.callback = callback;
+    }
+
+    /**
+     * 추출할 Source와 Frame 크기를 지정, 이전에 요청된 작업은 모두 취소됨
+     *
+     * @param diskCache   Frame을 저장하고 불러올 Disk Cache, 사용하지 않는 경우 null
+     * @param tierWidth   Source Tier의 width, 화면 방향과 상관없이 가장 큰 Slot을 덮는 크기로 Source마다 한번만 정해야 함
+     * @param tierHeight  Source Tier의 height
+     * @param frameConfig 전달할 Frame의 Config, HARDWARE인 경우 Software Bitmap으로 만든 후 변환함
+     */
+    void setTarget(FrameSource source, FrameDiskCache diskCache, int frameCount, int frameWidth, int frameHeight,
+                   int tierWidth, int tierHeight, Bitmap.Config frameConfig) {
+        cancel();
+        this.source = source;
+        this.diskCache = diskCache;
+        this.frameCount = frameCount;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        // Slot이 Tier보다 큰 경우에는 Slot 크기로 Decode
+        this.tierWidth = Math.max(tierWidth, frameWidth);
+        this.tierHeight = Math.max(tierHeight, frameHeight);
+        this.frameConfig = frameConfig;
+    }
+
+    /**
+     * index번째 Slot의 Frame 추출을 요청, 이미 요청된 Slot은 priority만 갱신함
+     *
+     * @param index    Slot index
+     * @param priority 값이 작을수록 먼저 추출됨
+     */
+    void request(int index, int priority) {
+        if (source == null || frameWidth <= 0 || frameHeight <= 0) {
+            return;
+        }
+
+        for (int i = 0; i < pendingTasks.size(); i++) {
+            FrameTask pendingTask = pendingTasks.get(i);
+            if (pendingTask.index == index) {
+                // 이미 실행중인 작업은 Queue에서 제거되지 않으므로 그대로 둠
+                if (pendingTask.priority == priority || !EXECUTOR.remove(pendingTask)) {
+                    return;
+                }
+                pendingTasks.remove(i);
+                break;
+            }
+        }
+
+        FrameTask task = new FrameTask(generation, source, diskCache, index, frameCount, frameWidth, frameHeight, tierWidth, tierHeight, frameConfig, priority);
+        pendingTasks.add(task);
+        EXECUTOR.execute(task);
+    }
+
+    /**
+     * first ~ last 범위 밖의 Slot에 대해 대기중인 작업을 취소
+     * 이미 실행중인 작업은 완료된 후 Cache에만 저장됨
+     */
+    void retain(int first, int last) {
+        for (int i = pendingTasks.size() - 1; i >= 0; i--) {
+            FrameTask task = pendingTasks.get(i);
+            if ((task.index < first || task.index > last) && EXECUTOR.remove(task)) {
+                pendingTasks.remove(i);
+            }
+        }
+    }
+
+    /**
+     * frameCount개의 Slot 중 index번째 Slot에 노출할 Frame의 시간, Slot 구간의 가운데 시간을 사용
+     */
+    static long getFrameTimeUs(long durationUs, int index, int frameCount) {
+        return durationUs * (2L * index + 1) / (2L * frameCount);
+    }
+
+    /**
+     * 대기중인 작업을 Queue에서 제거하고, 실행중인 작업의 결과는 버리도록 함
+     */
+    void cancel() {
+        generation++;
+        for (int i = 0; i < pendingTasks.size(); i++) {
+            EXECUTOR.remove(pendingTasks.get(i));
+        }
+        pendingTasks.clear();
+    }
+
+    private void deliver(final FrameTask task, final Bitmap frame) {
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (task.generation != generation) {
+                    // Frame은 ThumbnailCache가 가지고 있으므로 결과만 버림
+                    return;
+                }
+                pendingTasks.remove(task);
+                if (frame != null) {
+                    callback.onFrameExtracted(task.index, frame);
+                }
+            }
+        });
+    }
+
+    private class FrameTask implements Runnable, Comparable<FrameTask> {
+        private final int generation;
+        private final FrameSource source;
+        private final FrameDiskCache diskCache;
+        private final int index;
+        private final int frameCount;
+        private final int frameWidth;
+        private final int frameHeight;
+        private final int tierWidth;
+        private final int tierHeight;
+        private final Bitmap.Config frameConfig;
+        private final Bitmap.Config softwareConfig; // Decode 및 Disk Cache에 사용하는 Config
+        private final int priority;
+        private final long sequence;
+
+        FrameTask(int generation, FrameSource source, FrameDiskCache diskCache, int index, int frameCount, int frameWidth, int frameHeight,
+                  int tierWidth, int tierHeight, Bitmap.Config frameConfig, int priority) {
+            this.generation = generation;
+            this.source = source;
+            this.diskCache = diskCache;
+            this.index = index;
+            this.frameCount = frameCount;
+            this.frameWidth = frameWidth;
+            this.frameHeight = frameHeight;
+            this.tierWidth = tierWidth;
+            this.tierHeight = tierHeight;
+            this.frameConfig = frameConfig;
+            this.softwareConfig = BitmapUtil.isHardwareConfig(frameConfig) ? Bitmap.Config.ARGB_8888 : frameConfig;
+            this.priority = priority;
+            this.sequence = SEQUENCE.getAndIncrement();
+        }
+
+        @Override
+        public void run() {
+            if (generation != FrameExtractor.this.generation) {
+                return;
+            }
+
+            String sourceId = source.getId();
+            long durationUs = getDurationUs(sourceId);
+            long timeUs = getFrameTimeUs(durationUs, index, frameCount);
+
+            Bitmap cachedFrame = thumbnailCache.get(sourceId, timeUs, frameWidth, frameHeight, frameConfig);
+            if (cachedFrame == null && diskCache != null) {
+                cachedFrame = diskCache.get(sourceId, timeUs, frameWidth, frameHeight, softwareConfig, bitmapPool);
+                if (cachedFrame != null && softwareConfig != frameConfig) {
+                    cachedFrame = copyToFrameConfig(cachedFrame, true);
+                }
+                if (cachedFrame != null) {
+                    thumbnailCache.put(sourceId, timeUs, cachedFrame);
+                }
+            }
+            if (cachedFrame != null) {
+                deliver(this, cachedFrame);
+                return;
+            }
+
+            Bitmap tierFrame = getSourceTierFrame(sourceId, timeUs);
+            if (tierFrame == null) {
+                deliver(this, null);
+                return;
+            }
+
+            Bitmap scaledFrame;
+            if (tierFrame.getWidth() == frameWidth && tierFrame.getHeight() == frameHeight) {
+                scaledFrame = tierFrame;
+            } else {
+                // Tier는 Cache에서 공유되므로 읽기만 함
+                scaledFrame = SCALER.get().scale(tierFrame, bitmapPool.get(frameWidth, frameHeight, softwareConfig));
+            }
+            if (diskCache != null) {
+                diskCache.put(sourceId, timeUs, scaledFrame);
+            }
+            if (softwareConfig != frameConfig) {
+                // Disk Cache가 비동기로 저장하는 중이거나 Tier로 Cache된 Software Bitmap은 Pool에 반환하지 않음
+                scaledFrame = copyToFrameConfig(scaledFrame, diskCache == null && scaledFrame != tierFrame);
+            }
+            thumbnailCache.put(sourceId, timeUs, scaledFrame);
+            deliver(this, scaledFrame);
+        }
+
+        /**
+         * Cache된 Source Tier를 찾고, 없는 경우 Source에서 Tier 크기로 Decode 하여 Tier Cache에 저장
+         * Tier는 가장 큰 Slot과 같은 비율이므로 Slot은 Source를 바로 줄인 것과 같은 비율로 만들어짐
+         * Source에서 Tier 크기에 가깝게 줄여서 Decode 하도록 하여 원본 크기의 Bitmap을 만들지 않음
+         */
+        private Bitmap getSourceTierFrame(String sourceId, long timeUs) {
+            Bitmap cachedTier = thumbnailCache.getTier(sourceId, timeUs, tierWidth, tierHeight, softwareConfig);
+            if (cachedTier != null) {
+                return cachedTier;
+            }
+
+            Bitmap frame = source.getFrameAtTime(timeUs, tierWidth, tierHeight);
+            if (frame == null) {
+                return null;
+            }
+
+            Bitmap tierFrame;
+            if (frame.getWidth() == tierWidth && frame.getHeight() == tierHeight
+                    && frame.getConfig() == softwareConfig && frame.isMutable()) {
+                tierFrame = frame;
+            } else {
+                tierFrame = SCALER.get().scale(frame, bitmapPool.get(tierWidth, tierHeight, softwareConfig));
+                bitmapPool.put(frame);
+            }
+            thumbnailCache.putTier(sourceId, timeUs, tierFrame);
+            return tierFrame;
+        }
+
+        /**
+         * Software Bitmap을 HARDWARE Bitmap으로 복사, 복사할 수 없는 경우 Software Bitmap을 그대로 사용
+         *
+         * @param recycleSource 복사 후 Software Bitmap을 Pool에 반환할지 여부
+         */
+        private Bitmap copyToFrameConfig(Bitmap bitmap, boolean recycleSource) {
+            Bitmap copied = bitmap.copy(frameConfig, false);
+            if (copied == null) {
+                return bitmap;
+            }
+            if (recycleSource) {
+                bitmapPool.put(bitmap);
+            }
+            return copied;
+        }
+
+        /**
+         * Source의 길이를 Cache에서 먼저 찾아서, Cache된 Frame만 사용하는 경우 Source를 열지 않도록 함
+         */
+        private long getDurationUs(String sourceId) {
+            long durationUs = thumbnailCache.getDurationUs(sourceId);
+            if (durationUs <= 0 && diskCache != null) {
+                durationUs = diskCache.getDurationUs(sourceId);
+                if (durationUs > 0) {
+                    thumbnailCache.putDurationUs(sourceId, durationUs);
+                }
+            }
+            if (durationUs <= 0) {
+                durationUs = source.getDurationUs();
+                if (durationUs > 0) {
+                    thumbnailCache.putDurationUs(sourceId, durationUs);
+                    if (diskCache != null) {
+                        diskCache.putDurationUs(sourceId, durationUs);
+                    }
+                }
+            }
+            return durationUs;
+        }
+
+        @Override
+        public int compareTo(FrameTask another) {
+            if (priority != another.priority) {
+                return priority < another.priority ? -1 : 1;
+            }
+            return sequence < another.sequence ? -1 : (sequence == another.sequence ? 0 : 1);
+        }
+    }
+}
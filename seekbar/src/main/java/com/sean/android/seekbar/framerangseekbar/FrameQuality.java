@@ -0,0 +1,10 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+/**
+ * FrameRangeSeekBar에 노출되는 Frame Bitmap의 품질
+ */
+public enum FrameQuality {
+    HIGH, // ARGB_8888
+    LOW, // RGB_565, 동영상 Frame은 투명도가 없으므로 메모리를 절반만 사용
+    HARDWARE // API 26 이상에서 GPU 메모리에 저장되는 HARDWARE Bitmap
+}
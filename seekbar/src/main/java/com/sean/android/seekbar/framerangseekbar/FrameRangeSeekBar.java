@@ -11,20 +11,31 @@ import android.graphics.Rect;
 import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.support.v4.view.ViewCompat;
 import android.util.AttributeSet;
+import android.util.DisplayMetrics;
 import android.util.TypedValue;
 import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
 import android.view.View;
+import android.view.VelocityTracker;
 import android.view.ViewConfiguration;
+import android.widget.OverScroller;
 
 import com.sean.android.seekbar.AbstractSeekBar;
 import com.sean.android.seekbar.NumberType;
 import com.sean.android.seekbar.R;
+import com.sean.android.seekbar.util.BitmapPool;
+import com.sean.android.seekbar.util.BitmapScaler;
 import com.sean.android.seekbar.util.BitmapUtil;
+import com.sean.android.seekbar.util.ConflatingDispatcher;
 import com.sean.android.seekbar.util.PixelUtil;
+import com.sean.android.seekbar.util.PointerThumbMap;
+import com.sean.android.seekbar.util.VsyncTicker;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * 프레임 편집 및 슬로우 모션 편집 기능이 추가된 Frame이 노출되는 Seekbar
@@ -51,6 +62,17 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
     public static final int INVALID_POINTER_ID = 255;
 
     private static final int INITIAL_PADDING_IN_DP = 50;
+    private static final int FRAME_PREFETCH_SLOT_COUNT = 4; // 화면 양쪽으로 미리 준비할 Slot 개수
+    private static final int AUTO_SCROLL_EDGE_IN_DP = 32; // Thumb을 끌고 이 영역에 들어가면 자동으로 Scroll
+    private static final int AUTO_SCROLL_MAX_SPEED_IN_DP = 12; // 한 Frame당 최대 Scroll 거리
+    private static final float DEFAULT_MAX_FRAME_ZOOM = 64f;
+    private static final int MAX_FRAME_LEVEL = 6; // Thumbnail Pyramid의 최대 단계, 단계마다 Slot 개수가 2배
+    private static final long MIN_FRAME_SLOT_DURATION_US = 1000000L; // Slot 하나가 표현하는 최소 시간
+    private static final int PLAYING_PATH_BAR_SIZE = 10;
+    private static final int PLAYING_PATH_Y_POSITION = 20;
+    private static final int PLAYING_PATH_RADIUS = 20;
+    private static final int INVALIDATE_MARGIN = 2; // Anti-alias 등으로 경계 밖에 그려지는 부분을 위한 여유
+    private static final int RETAINED_FRAME_HEADROOM = 2; // 보관하는 Frame은 처음 Slot 크기의 2배까지 유지
 
     private int scaledTouchSlop;
 
@@ -80,6 +102,26 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
     private List<Bitmap> frames;
 
+    // setFrames로 전달된 Frame을 Slot보다 큰 크기로 보관하여 Layout이 바뀌면 여기서 다시 잘라냄
+    private List<Bitmap> retainedFrames;
+    private boolean isRetainedFramesTrimmed = false;
+
+    private FrameSource frameSource; // Frame을 Background에서 추출할 Source
+    private int frameSourceCount;
+    private int frameSourceWidth;
+    private int frameSourceHeight;
+    private int frameWindowFirst = 0; // 현재 Frame이 준비된 Slot 범위(화면 + prefetch)
+    private int frameWindowLast = -1;
+    private FrameExtractor frameExtractor;
+    private boolean isFramesCached = false; // Frame들이 ThumbnailCache에서 공유되는 Bitmap인지 여부
+    private boolean isFrameDiskCacheEnabled = true; // 추출된 Frame을 Disk에 저장하여 재사용할지 여부
+    private FrameQuality frameQuality = FrameQuality.HIGH; // Frame Bitmap의 Config
+
+    private final ThumbnailCache thumbnailCache = ThumbnailCache.getInstance();
+
+    private final BitmapPool bitmapPool = BitmapPool.getInstance(); // Frame Bitmap 재사용 Pool
+    private final BitmapScaler bitmapScaler = new BitmapScaler();
+
     private int screenWidth;
     private int screenHeight;
 
@@ -97,21 +139,109 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
     protected double absoluteMinValuePrim, absoluteMaxValuePrim, absoluteStepValuePrim;
 
+    // 선택된 값은 long tick으로 보관하고, 위의 normalized 값은 화면 좌표 변환에만 사용
+    private final FixedPointTimeline timeline = new FixedPointTimeline();
+    private long minValueTicks, maxValueTicks, pathValueTicks, slowMinValueTicks, slowMaxValueTicks;
+
     protected NumberType numberType;
 
     protected boolean isSlowMotionVideo = false;
 
     //Draw
-    private Rect rect;
-
+    // onDraw는 재생중 매 Frame마다 호출되므로 Paint, Rect는 미리 만들어두고 재사용함
+    private final Rect rect = new Rect();
+    private final RectF rectF = new RectF();
+    private final Paint backgroundPaint = new Paint();
+    private final Paint slowMotionPaint = new Paint();
+    private final Paint opacityPaint = new Paint();
+    private final Paint playingPathPaint = new Paint();
+
+    // Frame들을 하나의 Bitmap으로 미리 합성하여 onDraw에서 한번만 그리도록 함, Bitmap이 하나 더 필요하므로 기본값은 사용 안함
+    private boolean isFrameCompositeEnabled = false;
+    private boolean isFrameCompositeDirty = true;
+    private Bitmap frameComposite;
+    private final Canvas frameCompositeCanvas = new Canvas();
+
+    // Scroll 모드에서는 Slot의 크기를 고정하고 화면에 보이는 Slot만 Frame을 준비함
+    private boolean isFrameScrollEnabled = false;
+    private float frameScrollOffset = 0f;
+    private boolean isFrameScrolling = false;
+    private float lastFrameScrollX;
+    private float lastTrackingX;
+    private boolean isAutoScrolling = false;
+    private int autoScrollEdge;
+    private int autoScrollMaxSpeed;
+
+    // Zoom 배율에 따라 Slot 개수가 (기본 개수 * 2^frameLevel)인 단계의 Frame을 사용
+    // 새 단계의 Frame이 준비되는 동안에는 이전 단계의 Frame(fallbackFrames)을 아래에 그림
+    private boolean isFrameZoomEnabled = false;
+    private float frameZoom = 1f;
+    private float maxFrameZoom = DEFAULT_MAX_FRAME_ZOOM;
+    private int frameLevel = 0;
+    private List<Bitmap> fallbackFrames;
+    private boolean isFrameZooming = false;
+    private ScaleGestureDetector scaleGestureDetector;
+
+
+    // 재생 위치를 Player의 Callback 주기와 상관없이 vsync마다 PlaybackTimeSource에서 읽어서 보간함
+    private PlaybackTimeSource playbackTimeSource;
+    private VsyncTicker playbackTicker;
+    private boolean isAttached = false;
+    private double playbackAnchorPosition;
+    private long playbackAnchorTimeNanos;
+    private double lastReportedPosition = Double.NaN;
 
     //Touch && Drag Motion
     private boolean isPlaying = false;
     private boolean notifyWhileDragging = false;
     private boolean isDragging;
     private Thumb pressedThumb = null;
+    // 최소/최대 Thumb을 동시에 Drag 하는 경우 activePointerId 이외의 Pointer가 잡은 Thumb (Thumb.ordinal)
+    private final PointerThumbMap secondaryPointers = new PointerThumbMap();
+
+    // Low Latency Scrubbing, Touch Event를 묶지 않고 바로 받으며 필요한 경우 한 Frame 뒤의 위치를 예측하여 그림
+    private static final long SCRUB_PREDICTION_MS = 16;
+    private static final int SCRUB_MAX_PREDICTION_DP = 24;
+    private boolean isLowLatencyScrubbing = false;
+    private boolean isScrubPredictionEnabled = false;
+    private final ScrubPredictor scrubPredictor = new ScrubPredictor();
+    private float scrubMaxPrediction;
+    private double scrubPredictionDelta = 0; // Drag 중인 Thumb을 그릴 때만 더하는 예측 거리 (0.0 ~ 1.0 기준)
+    private float lastScrubX;
+
+    // 재생중 Play Path를 놓을때의 속도로 Fling, 진행중에는 Seek 위치를 FLING_SEEK_INTERVAL_NANOS 마다 한번만 전달
+    private static final long FLING_SEEK_INTERVAL_NANOS = 100000000L;
+    private boolean isPathFlingEnabled = false;
+    private boolean isPathFlinging = false;
+    private VelocityTracker velocityTracker;
+    private OverScroller pathFlingScroller;
+    private VsyncTicker pathFlingTicker;
+    private float pathFlingWidth;
+    private long lastFlingSeekTimeNanos;
+    private int minFlingVelocity;
+    private int maxFlingVelocity;
+
+    // 최소/최대 Thumb을 가까운 Keyframe에 붙여서 재Encode 없이 자를 수 있는 위치를 선택하도록 함
+    private static final int KEYFRAME_SNAP_DISTANCE_DP = 12;
+    private boolean isKeyframeSnapEnabled = false;
+    private KeyframeIndex keyframeIndex;
+    private double keyframeValuePerSecond;
+    private float keyframeSnapDistance;
+    // 한 Touch Event에서 바뀐 영역을 모아서 한번에 invalidate
+    private final Rect pendingDirtyRect = new Rect();
+    private boolean isBatchingInvalidate = false;
     private float downMotionX;
-    private OnFrameRangeSeekBarChangeListener listener;
+    private OnFrameRangeSeekBarPrimitiveChangeListener listener; // Generic Listener는 GenericListenerAdapter로 감싸서 사용
+    private ConflatingDispatcher listenerDispatcher; // null인 경우 Main Thread에서 바로 호출
+
+    // 병합 가능한 Listener Event 종류
+    private static final int DISPATCH_KEY_VALUES = 0;
+    private static final int DISPATCH_KEY_SLOW_VALUES = 1;
+    private static final int DISPATCH_KEY_SEEK = 2;
+
+    // notifyWhileDragging 상태에서 Drag 중 바뀐 값은 모아두었다가 vsync마다 최신 값만 한번 전달
+    private VsyncTicker dispatchTicker;
+    private Thumb pendingDispatchThumb = null;
 
     public FrameRangeSeekBar(Context context) {
         super(context);
@@ -160,6 +290,26 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
                 isSlowMotionVideo = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_slowMotion, false);
 
+                notifyWhileDragging = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_notifyWhileDragging, false);
+
+                isFrameCompositeEnabled = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_frameComposite, false);
+
+                isFrameScrollEnabled = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_frameScroll, false);
+
+                isFrameZoomEnabled = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_frameZoom, false);
+
+                isLowLatencyScrubbing = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_lowLatencyScrubbing, false);
+
+                isScrubPredictionEnabled = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_scrubPrediction, false);
+
+                isPathFlingEnabled = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_pathFling, false);
+
+                isKeyframeSnapEnabled = typedArray.getBoolean(R.styleable.FrameRangeSeekBar_keyframeSnap, false);
+
+                frameQuality = FrameQuality.values()[typedArray.getInt(R.styleable.FrameRangeSeekBar_frameQuality, FrameQuality.HIGH.ordinal())];
+
+                maxFrameZoom = Math.max(1f, typedArray.getFloat(R.styleable.FrameRangeSeekBar_maxFrameZoom, DEFAULT_MAX_FRAME_ZOOM));
+
                 internalPad = typedArray.getDimensionPixelSize(R.styleable.FrameRangeSeekBar_internalPadding, INITIAL_PADDING_IN_DP);
 
                 slowRangeColor = typedArray.getColor(R.styleable.FrameRangeSeekBar_slowMotionRangeColor, DEFAULT_SLOW_MOTION_COLOR);
@@ -243,11 +393,59 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         thumbSlowHalfWidth = 0.5f * thumbSlowImage.getWidth();
         thumbSlowHalfHeight = 0.5f * thumbSlowImage.getHeight();
 
+        padding = internalPad + thumbHalfWidth * 2;
+
+        initPaints();
+
+        autoScrollEdge = PixelUtil.dpToPx(context, AUTO_SCROLL_EDGE_IN_DP);
+        autoScrollMaxSpeed = PixelUtil.dpToPx(context, AUTO_SCROLL_MAX_SPEED_IN_DP);
+
         setValuePrimAndNumberType();
         setFocusable(true);
         setFocusableInTouchMode(true);
 
-        scaledTouchSlop = ViewConfiguration.get(getContext()).getScaledTouchSlop();
+        ViewConfiguration viewConfiguration = ViewConfiguration.get(getContext());
+        scaledTouchSlop = viewConfiguration.getScaledTouchSlop();
+        minFlingVelocity = viewConfiguration.getScaledMinimumFlingVelocity();
+        maxFlingVelocity = viewConfiguration.getScaledMaximumFlingVelocity();
+        scrubMaxPrediction = PixelUtil.dpToPx(context, SCRUB_MAX_PREDICTION_DP);
+        keyframeSnapDistance = PixelUtil.dpToPx(context, KEYFRAME_SNAP_DISTANCE_DP);
+
+        scaleGestureDetector = new ScaleGestureDetector(context, new ScaleGestureDetector.SimpleOnScaleGestureListener() {
+            @Override
+            public boolean onScaleBegin(ScaleGestureDetector detector) {
+                // 두 손가락이 모두 Thumb을 잡고 있는 경우 Zoom이 아닌 Thumb 이동으로 처리
+                if (!isFrameZoomEnabled || frames == null || frames.isEmpty() || secondaryPointers.size() > 0) {
+                    return false;
+                }
+                startFrameZoom();
+                return true;
+            }
+
+            @Override
+            public boolean onScale(ScaleGestureDetector detector) {
+                setFrameZoomInternal(frameZoom * detector.getScaleFactor(), detector.getFocusX());
+                return true;
+            }
+        });
+    }
+
+    private void initPaints() {
+        backgroundPaint.setColor(Color.rgb(155, 155, 155));
+        backgroundPaint.setStyle(Paint.Style.FILL);
+
+        slowMotionPaint.setColor(slowRangeColor);
+        slowMotionPaint.setStyle(Paint.Style.STROKE);
+        slowMotionPaint.setStrokeCap(Paint.Cap.BUTT);
+        slowMotionPaint.setStrokeWidth(8.0f);
+
+        opacityPaint.setColor(Color.rgb(99, 99, 99));
+        opacityPaint.setAlpha(150);
+        opacityPaint.setStyle(Paint.Style.FILL);
+
+        playingPathPaint.setColor(Color.rgb(255, 116, 110));
+        playingPathPaint.setStrokeCap(Paint.Cap.ROUND);
+        playingPathPaint.setStyle(Paint.Style.FILL_AND_STROKE);
     }
 
     /**
@@ -266,6 +464,14 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         absoluteMaxValuePrim = absoluteMaxValue.doubleValue();
         absoluteStepValuePrim = absoluteStepValue.doubleValue();
         numberType = NumberType.fromNumber(absoluteMinValue);
+        timeline.setRange(numberType, absoluteMinValue, absoluteMaxValue, absoluteStepValue);
+
+        // 범위가 바뀌면 화면상의 위치를 유지하도록 tick을 다시 계산
+        minValueTicks = timeline.normalizedToTicks(normalizedMinValue);
+        maxValueTicks = timeline.normalizedToTicks(normalizedMaxValue);
+        pathValueTicks = timeline.normalizedToTicks(normalizedValue);
+        slowMinValueTicks = timeline.normalizedToTicks(slowMinValue);
+        slowMaxValueTicks = timeline.normalizedToTicks(slowMaxValue);
     }
 
     public void setRangeValues(T minValue, T maxValue, T step) {
@@ -281,11 +487,11 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
     public void setSlowRangeValues(T minValue, T maxValue) {
         if (isSlowMotionVideo) {
-            setNormalizedSlowMinValue(valueToNormalized(minValue));
-            setNormalizedSlowMaxValue(valueToNormalized(maxValue));
+            setValueTicks(Thumb.SLOW_MIN, timeline.valueToTicks(minValue));
+            setValueTicks(Thumb.SLOW_MAX, timeline.valueToTicks(maxValue));
         } else {
-            setNormalizedSlowMinValue(valueToNormalized(absoluteMinValue));
-            setNormalizedSlowMaxValue(valueToNormalized(absoluteMaxValue));
+            setValueTicks(Thumb.SLOW_MIN, timeline.getMinTicks());
+            setValueTicks(Thumb.SLOW_MAX, timeline.getMaxTicks());
         }
     }
 
@@ -300,7 +506,7 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         if (0 == (absoluteMaxValuePrim - absoluteMinValuePrim)) {
             setNormalizedMinValue(0d);
         } else {
-            setNormalizedMinValue(valueToNormalized(value));
+            setValueTicks(Thumb.MIN, timeline.valueToTicks(value));
         }
     }
 
@@ -309,7 +515,7 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         if (0 == (absoluteMaxValuePrim - absoluteMinValuePrim)) {
             setNormalizedMaxValue(1d);
         } else {
-            setNormalizedMaxValue(valueToNormalized(value));
+            setValueTicks(Thumb.MAX, timeline.valueToTicks(value));
         }
     }
 
@@ -322,37 +528,162 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
     }
 
     private void setNormalizedMinValue(double value) {
+        double oldValue = normalizedMinValue;
+        boolean wasDefault = areSelectedValuesDefault();
 
         if (isSlowMotionVideo) {
             normalizedMinValue = Math.max(0d, Math.min(1d, Math.min(value, slowMaxValue - DEFAULT_INTERVAL < normalizedMaxValue ? slowMaxValue - DEFAULT_INTERVAL : normalizedMaxValue)));
         } else {
             normalizedMinValue = Math.max(0d, Math.min(1d, Math.min(value, normalizedMaxValue)));
         }
-        invalidate();
+        minValueTicks = timeline.normalizedToTicks(normalizedMinValue);
+
+        if (wasDefault != areSelectedValuesDefault()) {
+            // 양쪽 Thumb의 이미지가 바뀜
+            invalidate();
+        } else if (oldValue != normalizedMinValue) {
+            // Thumb과 Thumb에 붙어있는 Opacity Box의 경계만 바뀜
+            invalidateMovedRange(normalizedLeftThumbToScreen(oldValue), normalizedLeftThumbToScreen(normalizedMinValue), thumbHalfWidth,
+                    DEFAULT_TOP_HEIGHT, DEFAULT_TOP_HEIGHT + thumbLeftImage.getHeight());
+        }
     }
 
     private void setNormalizedValue(double value) {
+        double oldValue = normalizedValue;
         normalizedValue = Math.max(0, Math.min(1d, Math.min(value, normalizedMaxValue)));
-        invalidate();
+        pathValueTicks = timeline.normalizedToTicks(normalizedValue);
+
+        // 재생중이 아닐때는 Play Path가 그려지지 않고, 화면상의 위치가 1 pixel 이상 바뀐 경우에만 다시 그림
+        if (isPlaying && (int) normalizedToScreen(oldValue) != (int) normalizedToScreen(normalizedValue)) {
+            invalidatePlayingPath(oldValue, normalizedValue);
+        }
     }
 
     private void setNormalizedMaxValue(double value) {
+        double oldValue = normalizedMaxValue;
+        boolean wasDefault = areSelectedValuesDefault();
+
         if (isSlowMotionVideo) {
             normalizedMaxValue = Math.max(0d, Math.min(1d, Math.max(value, slowMinValue + DEFAULT_INTERVAL > normalizedMinValue ? slowMinValue + DEFAULT_INTERVAL : normalizedMinValue)));
         } else {
             normalizedMaxValue = Math.max(0d, Math.min(1d, Math.max(value, normalizedMinValue)));
         }
-        invalidate();
+        maxValueTicks = timeline.normalizedToTicks(normalizedMaxValue);
+
+        if (wasDefault != areSelectedValuesDefault()) {
+            invalidate();
+        } else if (oldValue != normalizedMaxValue) {
+            invalidateMovedRange(normalizedRightThumbToScreen(oldValue), normalizedRightThumbToScreen(normalizedMaxValue), thumbHalfWidth,
+                    DEFAULT_TOP_HEIGHT, DEFAULT_TOP_HEIGHT + thumbLeftImage.getHeight());
+        }
     }
 
     private void setNormalizedSlowMinValue(double value) {
+        double oldValue = slowMinValue;
         slowMinValue = Math.max(normalizedMinValue, Math.min(normalizedMaxValue, Math.min(value, slowMaxValue - DEFAULT_INTERVAL)));
-        invalidate();
+        slowMinValueTicks = timeline.normalizedToTicks(slowMinValue);
+        if (oldValue != slowMinValue) {
+            invalidateSlowValue(oldValue, slowMinValue);
+        }
     }
 
     private void setNormalizedSlowMaxValue(double value) {
+        double oldValue = slowMaxValue;
         slowMaxValue = Math.max(normalizedMinValue, Math.min(normalizedMaxValue, Math.max(value, slowMinValue + DEFAULT_INTERVAL)));
-        invalidate();
+        slowMaxValueTicks = timeline.normalizedToTicks(slowMaxValue);
+        if (oldValue != slowMaxValue) {
+            invalidateSlowValue(oldValue, slowMaxValue);
+        }
+    }
+
+    /**
+     * 값을 tick으로 지정, 범위 제한 없이 그대로 적용된 경우 double 변환 오차 없이 요청한 tick을 유지함
+     */
+    private void setValueTicks(Thumb thumb, long ticks) {
+        double normalized = timeline.ticksToNormalized(ticks);
+        switch (thumb) {
+            case MIN:
+                setNormalizedMinValue(normalized);
+                if (normalizedMinValue == normalized) {
+                    minValueTicks = ticks;
+                }
+                break;
+            case MAX:
+                setNormalizedMaxValue(normalized);
+                if (normalizedMaxValue == normalized) {
+                    maxValueTicks = ticks;
+                }
+                break;
+            case PATH:
+                setNormalizedValue(normalized);
+                if (normalizedValue == normalized) {
+                    pathValueTicks = ticks;
+                }
+                break;
+            case SLOW_MIN:
+                setNormalizedSlowMinValue(normalized);
+                if (slowMinValue == normalized) {
+                    slowMinValueTicks = ticks;
+                }
+                break;
+            case SLOW_MAX:
+                setNormalizedSlowMaxValue(normalized);
+                if (slowMaxValue == normalized) {
+                    slowMaxValueTicks = ticks;
+                }
+                break;
+        }
+    }
+
+    private boolean areSelectedValuesDefault() {
+        return normalizedMinValue <= minDeltaForDefault && normalizedMaxValue >= 1 - minDeltaForDefault;
+    }
+
+    /**
+     * Play Path의 이전 위치와 새 위치를 합친 영역만 다시 그리도록 함
+     * Frame 목록과 Thumb 등 움직이지 않는 영역은 다시 그리지 않음
+     */
+    private void invalidatePlayingPath(double oldValue, double newValue) {
+        float centerOffset = PLAYING_PATH_BAR_SIZE / 2f;
+        invalidateMovedRange(normalizedToScreen(oldValue) + centerOffset, normalizedToScreen(newValue) + centerOffset, PLAYING_PATH_RADIUS,
+                PLAYING_PATH_Y_POSITION - PLAYING_PATH_RADIUS, DEFAULT_TOP_HEIGHT + thumbLeftImage.getHeight());
+    }
+
+    /**
+     * 재생중에는 Slow Motion 구간 Box 전체가, 아닌 경우 Slow Thumb만 다시 그려지면 됨
+     */
+    private void invalidateSlowValue(double oldValue, double newValue) {
+        if (isPlaying) {
+            invalidate();
+            return;
+        }
+        invalidateMovedRange(normalizedToScreen(oldValue), normalizedToScreen(newValue), thumbSlowHalfWidth,
+                DEFAULT_TOP_HEIGHT - (int) (thumbSlowHalfHeight * 2), DEFAULT_TOP_HEIGHT);
+    }
+
+    /**
+     * 중심 x좌표가 fromX에서 toX로 이동한 halfWidth 폭의 요소에 대해 두 위치를 합친 영역만 invalidate
+     */
+    private void invalidateMovedRange(float fromX, float toX, float halfWidth, int top, int bottom) {
+        int left = (int) Math.floor(Math.min(fromX, toX) - halfWidth) - INVALIDATE_MARGIN;
+        int right = (int) Math.ceil(Math.max(fromX, toX) + halfWidth) + INVALIDATE_MARGIN;
+        if (isBatchingInvalidate) {
+            pendingDirtyRect.union(left, top - INVALIDATE_MARGIN, right, bottom + INVALIDATE_MARGIN);
+            return;
+        }
+        invalidate(left, top - INVALIDATE_MARGIN, right, bottom + INVALIDATE_MARGIN);
+    }
+
+    private void beginInvalidateBatch() {
+        isBatchingInvalidate = true;
+        pendingDirtyRect.setEmpty();
+    }
+
+    private void endInvalidateBatch() {
+        isBatchingInvalidate = false;
+        if (!pendingDirtyRect.isEmpty()) {
+            invalidate(pendingDirtyRect.left, pendingDirtyRect.top, pendingDirtyRect.right, pendingDirtyRect.bottom);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -388,6 +719,35 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         setMeasuredDimension(width, height);
     }
 
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        layoutRetainedFrames();
+        setFrameScrollOffsetInternal(frameScrollOffset);
+        requestSourceFrames();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        isAttached = true;
+        requestSourceFrames();
+        updatePlaybackTicker();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        // 화면에서 사라진 경우 진행중인 Frame 추출 작업을 취소
+        if (frameExtractor != null) {
+            frameExtractor.cancel();
+        }
+        isAttached = false;
+        abortPathFling();
+        updatePlaybackTicker();
+        cancelPendingValuesChanged();
+        super.onDetachedFromWindow();
+    }
+
     @Override
     protected synchronized void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -395,44 +755,53 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
         padding = internalPad + thumbHalfWidth * 2;
 
-        boolean selectedValuesAreDefault = (normalizedMinValue <= minDeltaForDefault && normalizedMaxValue >= 1 - minDeltaForDefault);
+        boolean selectedValuesAreDefault = areSelectedValuesDefault();
+
+        int saveCount = canvas.save();
+        if (isFrameTimelineScrollable()) {
+            // Scroll 모드에서는 화면 밖으로 나간 Thumb 등이 Padding 영역에 그려지지 않도록 함
+            canvas.clipRect(internalPad, 0, getWidth() - internalPad, getHeight());
+        }
 
         if (isPlaying) {
             drawBackground(canvas);
         }
 
         if (frames != null && !frames.isEmpty()) {
-            int frameScreen = (int) ((screenWidth - (padding * 2)) / frames.size());
-            for (int index = 0; index < frames.size(); index++) {
-                Bitmap bitmap = frames.get(index);
-
-                if (rect == null) {
-                    rect = new Rect((int) (index * frameScreen + padding), DEFAULT_TOP_HEIGHT, (int) ((index + 1) * frameScreen + padding), DEFAULT_TOP_HEIGHT + thumbLeftImage.getHeight());
+            if (isFrameTimelineScrollable()) {
+                drawVisibleFrames(canvas);
+            } else {
+                int frameScreen = getFrameSlotWidth(frames.size());
+                // HARDWARE Bitmap은 합성용 Software Canvas에 그릴 수 없음
+                if (isFrameCompositeEnabled && !BitmapUtil.isHardwareConfig(getFrameConfig()) && prepareFrameComposite(frameScreen)) {
+                    canvas.drawBitmap(frameComposite, padding, DEFAULT_TOP_HEIGHT, null);
                 } else {
-                    rect.set((int) (index * frameScreen + padding), DEFAULT_TOP_HEIGHT, (int) ((index + 1) * frameScreen + padding), DEFAULT_TOP_HEIGHT + thumbLeftImage.getHeight());
+                    drawFrames(canvas, frameScreen, padding, DEFAULT_TOP_HEIGHT);
                 }
-                canvas.drawBitmap(bitmap, null, rect, null);
             }
 
             if (!isPlaying) {
+                double drawnMinValue = getDrawnValue(Thumb.MIN, normalizedMinValue);
+                double drawnMaxValue = getDrawnValue(Thumb.MAX, normalizedMaxValue);
+
                 //Draw Skip Frame Range Box
-                drawOpacity(padding, normalizedLeftThumbToScreen(normalizedMinValue) - thumbHalfWidth / 2, canvas);
+                drawOpacity(normalizedToScreen(0d), normalizedLeftThumbToScreen(drawnMinValue) - thumbHalfWidth / 2, canvas);
 
                 //Draw Min Thumb
-                drawLeftThumb(normalizedLeftThumbToScreen(normalizedMinValue), Thumb.MIN.equals(pressedThumb), canvas, selectedValuesAreDefault);
+                drawLeftThumb(normalizedLeftThumbToScreen(drawnMinValue), isThumbPressed(Thumb.MIN), canvas, selectedValuesAreDefault);
 
 
                 //Draw Skip Frame Range Box
-                drawOpacity(normalizedRightThumbToScreen(normalizedMaxValue) + thumbHalfWidth / 2, screenWidth - padding, canvas);
+                drawOpacity(normalizedRightThumbToScreen(drawnMaxValue) + thumbHalfWidth / 2, normalizedToScreen(1d), canvas);
 
                 //Draw Max Thumb
-                drawRightThumb(normalizedRightThumbToScreen(normalizedMaxValue), Thumb.MAX.equals(pressedThumb), canvas, selectedValuesAreDefault);
+                drawRightThumb(normalizedRightThumbToScreen(drawnMaxValue), isThumbPressed(Thumb.MAX), canvas, selectedValuesAreDefault);
 
 
                 if (isSlowMotionVideo) {
                     //Draw Start ~ End Slow Thumb
-                    drawSlowThumb(normalizedToScreen(slowMinValue), Thumb.SLOW_MIN.equals(pressedThumb), canvas);
-                    drawSlowThumb(normalizedToScreen(slowMaxValue), Thumb.SLOW_MAX.equals(pressedThumb), canvas);
+                    drawSlowThumb(normalizedToScreen(getDrawnValue(Thumb.SLOW_MIN, slowMinValue)), Thumb.SLOW_MIN.equals(pressedThumb), canvas);
+                    drawSlowThumb(normalizedToScreen(getDrawnValue(Thumb.SLOW_MAX, slowMaxValue)), Thumb.SLOW_MAX.equals(pressedThumb), canvas);
                 }
 
 
@@ -443,9 +812,111 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
                 }
 
                 //Draw Path Thumb
-                drawPlayingPath(normalizedToScreen(normalizedValue), canvas);
+                drawPlayingPath(normalizedToScreen(getDrawnValue(Thumb.PATH, normalizedValue)), canvas);
             }
         }
+        canvas.restoreToCount(saveCount);
+    }
+
+    /**
+     * Frame 이미지들을 Slot 위치에 맞게 그리는 Method
+     *
+     * @param canvas      Frame을 그릴 canvas
+     * @param frameScreen Slot 하나의 width
+     * @param left        첫번째 Slot의 x 좌표
+     * @param top         Slot의 y 좌표
+     */
+    private void drawFrames(Canvas canvas, int frameScreen, float left, int top) {
+        for (int index = 0; index < frames.size(); index++) {
+            drawFrame(canvas, index, frameScreen, left, top);
+        }
+    }
+
+    /**
+     * Scroll 또는 Zoom 상태에서 화면에 보이는 Slot의 Frame만 그리는 Method
+     * 현재 단계의 Frame이 아직 준비되지 않은 Slot은 아래에 그려진 이전 단계의 Frame이 보이게 됨
+     */
+    private void drawVisibleFrames(Canvas canvas) {
+        int saveCount = canvas.save();
+        canvas.clipRect(padding, DEFAULT_TOP_HEIGHT, getWidth() - padding, DEFAULT_TOP_HEIGHT + thumbLeftImage.getHeight());
+
+        float left = padding - frameScrollOffset;
+        if (fallbackFrames != null) {
+            drawVisibleFrames(canvas, fallbackFrames, left);
+        }
+        drawVisibleFrames(canvas, frames, left);
+        canvas.restoreToCount(saveCount);
+    }
+
+    private void drawVisibleFrames(Canvas canvas, List<Bitmap> list, float left) {
+        float frameScreen = getTimelineWidth() / list.size();
+        int last = getLastVisibleSlot(list.size());
+        for (int index = getFirstVisibleSlot(list.size()); index <= last; index++) {
+            drawFrame(canvas, list.get(index), index, frameScreen, left, DEFAULT_TOP_HEIGHT);
+        }
+    }
+
+    private void drawFrame(Canvas canvas, int index, int frameScreen, float left, int top) {
+        drawFrame(canvas, frames.get(index), index, frameScreen, left, top);
+    }
+
+    private void drawFrame(Canvas canvas, Bitmap bitmap, int index, float frameScreen, float left, int top) {
+        if (bitmap == null) {
+            // 아직 추출되지 않은 Frame
+            return;
+        }
+
+        rect.set((int) (index * frameScreen + left), top, (int) ((index + 1) * frameScreen + left), top + thumbLeftImage.getHeight());
+        canvas.drawBitmap(bitmap, null, rect, null);
+    }
+
+    /**
+     * 합성된 Frame Bitmap을 준비, Frame 또는 Layout이 변경된 경우에만 다시 합성함
+     *
+     * @return 합성된 Frame Bitmap을 사용할 수 있는지 여부
+     */
+    private boolean prepareFrameComposite(int frameScreen) {
+        int width = frameScreen * frames.size();
+        int height = thumbLeftImage.getHeight();
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+
+        // HARDWARE Frame은 합성하지 않으므로 여기서는 Frame과 같은 Config(ARGB_8888 또는 RGB_565)만 사용됨
+        Bitmap.Config config = getFrameConfig();
+        if (frameComposite == null || frameComposite.getWidth() != width || frameComposite.getHeight() != height
+                || frameComposite.getConfig() != config) {
+            bitmapPool.put(frameComposite);
+            frameComposite = bitmapPool.get(width, height, config);
+            frameCompositeCanvas.setBitmap(frameComposite);
+            isFrameCompositeDirty = true;
+        }
+
+        if (isFrameCompositeDirty) {
+            frameComposite.eraseColor(Color.TRANSPARENT);
+            drawFrames(frameCompositeCanvas, frameScreen, 0, 0);
+            isFrameCompositeDirty = false;
+        }
+        return true;
+    }
+
+    /**
+     * 새로 추가된 Frame 하나만 합성된 Bitmap에 그림, 합성된 Bitmap이 없는 경우 다음 onDraw에서 전체를 합성함
+     */
+    private void updateFrameComposite(int index) {
+        if (frameComposite == null || isFrameCompositeDirty || frames.isEmpty()) {
+            isFrameCompositeDirty = true;
+            return;
+        }
+        drawFrame(frameCompositeCanvas, index, frameComposite.getWidth() / frames.size(), 0, 0);
+    }
+
+    private void releaseFrameComposite() {
+        if (frameComposite != null) {
+            bitmapPool.put(frameComposite);
+            frameComposite = null;
+        }
+        isFrameCompositeDirty = true;
     }
 
     @SuppressWarnings("unchecked")
@@ -459,8 +930,25 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
         final int action = event.getAction();
 
+        if (isFrameZoomEnabled) {
+            scaleGestureDetector.onTouchEvent(event);
+            if (isFrameZooming) {
+                int actionMasked = action & MotionEvent.ACTION_MASK;
+                if (actionMasked == MotionEvent.ACTION_UP || actionMasked == MotionEvent.ACTION_CANCEL) {
+                    isFrameZooming = false;
+                    attemptReleaseDrag();
+                }
+                return true;
+            }
+        }
+
         switch (action & MotionEvent.ACTION_MASK) {
             case MotionEvent.ACTION_DOWN:
+                // 진행중인 Fling은 멈춘 위치로 확정하고 새 Touch를 처리
+                abortPathFling();
+                recycleVelocityTracker();
+                scrubPredictor.reset();
+                scrubPredictionDelta = 0;
                 activePointerId = event.getPointerId(event.getPointerCount() - 1); // 현재 Touch한 Point의 ID 값
                 pointerIndex = event.findPointerIndex(activePointerId);
                 downMotionX = event.getX(pointerIndex);
@@ -470,7 +958,7 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
                     // Thumb이 눌려있을때만 동작하도록 변경
                     if (pressedThumb == null) {
-                        return super.onTouchEvent(event);
+                        return startFrameScroll(event);
                     }
 
                     setPressed(true);
@@ -482,6 +970,7 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
                     pressedThumb = evalPressedThumb(downMotionX, downMotionY);
 
                     if (pressedThumb != null && pressedThumb.equals(Thumb.PATH)) {
+                        addPathVelocityMovement(event);
                         setPressed(true);
                         invalidate();
                         onStartTrackingTouch();
@@ -489,19 +978,34 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
                         attemptClaimDrag();
                     } else {
                         pressedThumb = null;
-                        return super.onTouchEvent(event);
+                        return startFrameScroll(event);
                     }
                 }
                 break;
 
             case MotionEvent.ACTION_MOVE:
-                if (pressedThumb != null) {
+                if (isFrameScrolling) {
+                    pointerIndex = event.findPointerIndex(activePointerId);
+                    if (pointerIndex < 0) {
+                        break;
+                    }
+                    final float x = event.getX(pointerIndex);
+                    setFrameScrollOffsetInternal(frameScrollOffset + (lastFrameScrollX - x));
+                    lastFrameScrollX = x;
+                } else if (pressedThumb != null) {
+                    addPathVelocityMovement(event);
 
                     if (isDragging) {
-                        trackTouchEvent(event);
+                        beginInvalidateBatch();
+                        if (secondaryPointers.size() > 0) {
+                            trackMultiTouchEvent(event);
+                        } else {
+                            trackTouchEvent(event);
+                        }
+                        endInvalidateBatch();
 
-                        if (listener != null) {
-                            listener.onFrameRangeSeekBarValuesChanged(this, getSelectedMinValue(), getSelectedMaxValue());
+                        if (notifyWhileDragging) {
+                            scheduleValuesChanged(pressedThumb);
                         }
                     } else {
                         // Scroll to follow the motion event
@@ -519,8 +1023,29 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
                 }
                 break;
             case MotionEvent.ACTION_UP:
+                if (isFrameScrolling) {
+                    isFrameScrolling = false;
+                    attemptReleaseDrag();
+                    break;
+                }
+                if (pressedThumb == null) {
+                    // Zoom의 두번째 손가락을 받기 위해서만 유지한 Touch, Thumb을 움직이지 않았으므로 Callback 없이 끝냄
+                    releaseZoomOnlyTouch();
+                    break;
+                }
+
+                stopAutoScroll();
+                addPathVelocityMovement(event);
                 if (isDragging) {
                     trackTouchEvent(event);
+                    if (Thumb.PATH.equals(pressedThumb) && startPathFling()) {
+                        // onStopTrackingTouch와 마지막 Seek 위치는 Fling이 끝날때 전달
+                        cancelPendingValuesChanged();
+                        setPressed(false);
+                        pressedThumb = null;
+                        invalidate();
+                        break;
+                    }
                     onStopTrackingTouch();
                     setPressed(false);
                 } else {
@@ -531,27 +1056,39 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
                     onStopTrackingTouch();
                 }
 
-
-                if (listener != null) {
-
-                    if (pressedThumb.equals(Thumb.PATH)) {
-                        listener.onFrameRangeSeekChanged(this, getSelectedPathValue());
-                    } else {
-                        listener.onFrameRangeSeekBarValuesChanged(this, getSelectedMinValue(), getSelectedMaxValue());
-                        listener.onFrameRangeSeekBarSlowValuesChanged(this, getSelectedSlowMinValue(), getSelectedSlowMaxValue());
-                    }
+                // 마지막 값을 바로 전달하므로 아직 전달되지 않은 Drag 중의 값은 버림
+                cancelPendingValuesChanged();
+                if (Thumb.PATH.equals(pressedThumb)) {
+                    notifySeekChanged();
+                } else {
+                    notifyValuesChanged();
+                    notifySlowValuesChanged();
                 }
 
                 pressedThumb = null;
+                secondaryPointers.clear();
+                recycleVelocityTracker();
                 invalidate();
 
                 break;
             case MotionEvent.ACTION_POINTER_DOWN:
+                onSecondaryPointerDown(event);
                 break;
 
             case MotionEvent.ACTION_POINTER_UP:
+                onSecondaryPointerUp(event);
                 break;
             case MotionEvent.ACTION_CANCEL:
+                if (!isFrameScrolling && pressedThumb == null) {
+                    releaseZoomOnlyTouch();
+                    break;
+                }
+                scrubPredictionDelta = 0;
+                recycleVelocityTracker();
+                secondaryPointers.clear();
+                isFrameScrolling = false;
+                stopAutoScroll();
+                dispatchPendingValuesChanged();
                 if (isDragging) {
                     onStopTrackingTouch();
                     setPressed(false);
@@ -562,6 +1099,159 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         return true;
     }
 
+    /**
+     * Thumb 없이 Zoom을 위해서만 받은 Touch를 정리
+     */
+    private void releaseZoomOnlyTouch() {
+        scrubPredictionDelta = 0;
+        secondaryPointers.clear();
+        recycleVelocityTracker();
+        attemptReleaseDrag();
+    }
+
+    /**
+     * 재생중 Play Path를 Drag 하는 동안에만 속도를 계산, ACTION_DOWN에서 새로 만들고 ACTION_UP에서 해제됨
+     */
+    private void addPathVelocityMovement(MotionEvent event) {
+        if (!isPathFlingEnabled || !isPlaying || !Thumb.PATH.equals(pressedThumb)) {
+            return;
+        }
+        if (velocityTracker == null) {
+            velocityTracker = VelocityTracker.obtain();
+        }
+        velocityTracker.addMovement(event);
+    }
+
+    private void recycleVelocityTracker() {
+        if (velocityTracker != null) {
+            velocityTracker.recycle();
+            velocityTracker = null;
+        }
+    }
+
+    /**
+     * Play Path를 놓을때의 속도가 최소 Fling 속도 이상이면 Fling을 시작
+     *
+     * @return Fling을 시작한 경우 true
+     */
+    private boolean startPathFling() {
+        if (!isPathFlingEnabled || !isPlaying || velocityTracker == null) {
+            recycleVelocityTracker();
+            return false;
+        }
+
+        velocityTracker.computeCurrentVelocity(1000, maxFlingVelocity);
+        float velocityX = velocityTracker.getXVelocity(activePointerId);
+        recycleVelocityTracker();
+
+        pathFlingWidth = getTimelineWidth();
+        if (Math.abs(velocityX) < minFlingVelocity || pathFlingWidth <= 0) {
+            return false;
+        }
+
+        if (pathFlingScroller == null) {
+            pathFlingScroller = new OverScroller(getContext());
+        }
+        // Play Path는 최대 Thumb을 넘어갈 수 없으므로 0 ~ 최대 Thumb 위치까지만 이동
+        pathFlingScroller.fling(Math.round((float) (normalizedValue * pathFlingWidth)), 0, (int) velocityX, 0,
+                0, (int) (normalizedMaxValue * pathFlingWidth), 0, 0);
+        isPathFlinging = true;
+        lastFlingSeekTimeNanos = 0;
+        getPathFlingTicker().start();
+        return true;
+    }
+
+    private VsyncTicker getPathFlingTicker() {
+        if (pathFlingTicker == null) {
+            pathFlingTicker = new VsyncTicker(new VsyncTicker.Callback() {
+                @Override
+                public void onVsync(long frameTimeNanos) {
+                    updatePathFling(frameTimeNanos);
+                }
+            });
+        }
+        return pathFlingTicker;
+    }
+
+    private void updatePathFling(long frameTimeNanos) {
+        if (!pathFlingScroller.computeScrollOffset()) {
+            stopPathFling(true);
+            return;
+        }
+
+        setNormalizedValue(pathFlingScroller.getCurrX() / pathFlingWidth);
+
+        // 매 Frame마다 Seek 하지 않도록 Player에 전달하는 위치의 수를 제한
+        if (lastFlingSeekTimeNanos == 0 || frameTimeNanos - lastFlingSeekTimeNanos >= FLING_SEEK_INTERVAL_NANOS) {
+            lastFlingSeekTimeNanos = frameTimeNanos;
+            notifySeekChanged();
+        }
+    }
+
+    /**
+     * 진행중인 Fling을 현재 위치에서 멈추고 그 위치를 전달
+     */
+    private void abortPathFling() {
+        stopPathFling(true);
+    }
+
+    /**
+     * 진행중인 Fling을 멈추고 위치는 전달하지 않음, 재생이 끝나 Play Path가 다른 위치로 이동하는 경우 사용
+     */
+    private void cancelPathFling() {
+        stopPathFling(false);
+    }
+
+    private void stopPathFling(boolean notifySeek) {
+        if (pathFlingScroller != null) {
+            pathFlingScroller.forceFinished(true);
+        }
+        if (pathFlingTicker != null) {
+            pathFlingTicker.stop();
+        }
+        if (!isPathFlinging) {
+            return;
+        }
+        isPathFlinging = false;
+        // ACTION_UP과 같이 onStopTrackingTouch 다음에 마지막 위치를 전달
+        onStopTrackingTouch();
+        if (notifySeek) {
+            notifySeekChanged();
+        }
+    }
+
+    /**
+     * Thumb이 아닌 영역을 Touch한 경우 Scroll 모드에서는 Frame 목록을 Scroll 하도록 함
+     */
+    private boolean startFrameScroll(MotionEvent event) {
+        if (!isFrameTimelineScrollable() || getMaxFrameScrollOffset() <= 0) {
+            // Zoom을 사용하는 경우 두번째 손가락의 Event를 받기 위해 Touch를 계속 받음
+            return isFrameZoomEnabled || super.onTouchEvent(event);
+        }
+        isFrameScrolling = true;
+        lastFrameScrollX = downMotionX;
+        attemptClaimDrag();
+        return true;
+    }
+
+    /**
+     * 두 손가락으로 Zoom을 시작하면 진행중이던 Thumb 이동이나 Scroll을 중단
+     */
+    private void startFrameZoom() {
+        isFrameZooming = true;
+        isFrameScrolling = false;
+        stopAutoScroll();
+        if (isDragging) {
+            onStopTrackingTouch();
+            setPressed(false);
+        }
+        pressedThumb = null;
+        secondaryPointers.clear();
+        recycleVelocityTracker();
+        attemptClaimDrag();
+        invalidate();
+    }
+
     /**
      * 왼쪽(최소) Thumb Image를 일반/눌림상태의 이미지로 특정 x좌표에 그려주도록 도와주는 Method
      *
@@ -625,16 +1315,11 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
      * @param canvas Background를 그릴 canvas
      */
     private void drawBackground(Canvas canvas) {
-        Paint paint = new Paint();
-        paint.setColor(Color.rgb(155, 155, 155));
-        paint.setStyle(Paint.Style.FILL);
-
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-            canvas.drawRoundRect(normalizedToScreen(0.0d) - 20, DEFAULT_TOP_HEIGHT, normalizedToScreen(1.0d) + 20, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT, 8.0f, 8.0f, paint);
+            canvas.drawRoundRect(normalizedToScreen(0.0d) - 20, DEFAULT_TOP_HEIGHT, normalizedToScreen(1.0d) + 20, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT, 8.0f, 8.0f, backgroundPaint);
         } else {
-            RectF rectF = new RectF();
             rectF.set(normalizedToScreen(0.0d) - 20, DEFAULT_TOP_HEIGHT, normalizedToScreen(1.0d) + 20, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT);
-            canvas.drawRoundRect(rectF, 8.0f, 8.0f, paint);
+            canvas.drawRoundRect(rectF, 8.0f, 8.0f, backgroundPaint);
         }
     }
 
@@ -644,14 +1329,8 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
      * @param canvas Background를 그릴 canvas
      */
     private void drawSlowMotionSection(float startScreenCoord, float endScreenCoord, Canvas canvas) {
-        Paint paint = new Paint();
-        paint.setColor(slowRangeColor);
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeCap(Paint.Cap.BUTT);
-        paint.setStrokeWidth(8.0f);
-
-        Rect rect = new Rect((int) startScreenCoord, DEFAULT_TOP_HEIGHT, (int) endScreenCoord, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT);
-        canvas.drawRect(rect, paint);
+        rect.set((int) startScreenCoord, DEFAULT_TOP_HEIGHT, (int) endScreenCoord, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT);
+        canvas.drawRect(rect, slowMotionPaint);
     }
 
     /**
@@ -660,13 +1339,9 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
      * @param canvas Background를 그릴 canvas
      */
     private void drawOpacity(float startScreenCoord, float endScreenCoord, Canvas canvas) {
-        Paint paint = new Paint();
-        paint.setColor(Color.rgb(99, 99, 99));
-        paint.setAlpha(150);
-        paint.setStyle(Paint.Style.FILL);
-        Rect rect = new Rect((int) startScreenCoord, DEFAULT_TOP_HEIGHT, (int) endScreenCoord, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT);
+        rect.set((int) startScreenCoord, DEFAULT_TOP_HEIGHT, (int) endScreenCoord, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT);
 
-        canvas.drawRect(rect, paint);
+        canvas.drawRect(rect, opacityPaint);
     }
 
 
@@ -678,20 +1353,15 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
      */
     private void drawPlayingPath(float screenCoord, Canvas canvas) {
 
-        int barSize = 10;
-        int yPostion = 20;
-        int radius = 20;
+        int barSize = PLAYING_PATH_BAR_SIZE;
+        int yPostion = PLAYING_PATH_Y_POSITION;
+        int radius = PLAYING_PATH_RADIUS;
 
-        Paint paint = new Paint();
-        paint.setColor(Color.rgb(255, 116, 110));
-        paint.setStrokeCap(Paint.Cap.ROUND);
-        paint.setStyle(Paint.Style.FILL_AND_STROKE);
-        RectF rectF = new RectF();
         rectF.set(screenCoord, yPostion, screenCoord + barSize, thumbLeftImage.getHeight() + DEFAULT_TOP_HEIGHT);
 
 
-        canvas.drawCircle(screenCoord + (barSize / 2), yPostion, radius, paint);
-        canvas.drawRoundRect(rectF, 2f, 2f, paint);
+        canvas.drawCircle(screenCoord + (barSize / 2), yPostion, radius, playingPathPaint);
+        canvas.drawRoundRect(rectF, 2f, 2f, playingPathPaint);
     }
 
     private Thumb evalPressedThumb(float touchX, float touchY) {
@@ -756,158 +1426,1181 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
      * @return 선택한 x 포지션값을 float 형태로 리턴
      */
     private float normalizedToScreen(double normalizedCoord) {
-        return (float) (padding + normalizedCoord * (getWidth() - 2 * padding));
+        return (float) (padding - frameScrollOffset + normalizedCoord * getTimelineWidth());
     }
 
     private float normalizedLeftThumbToScreen(double normalizedCoord) {
-        return (float) (padding - thumbHalfWidth + normalizedCoord * (getWidth() - 2 * padding));
+        return (float) (padding - thumbHalfWidth - frameScrollOffset + normalizedCoord * getTimelineWidth());
     }
 
     private float normalizedRightThumbToScreen(double normalizedCoord) {
-        return (float) (padding + thumbHalfWidth + normalizedCoord * (getWidth() - 2 * padding));
+        return (float) (padding + thumbHalfWidth - frameScrollOffset + normalizedCoord * getTimelineWidth());
+    }
+
+    /**
+     * 0.0d ~ 1.0d 범위에 해당하는 전체 Timeline의 width
+     * Scroll 모드에서는 기본 단계 Slot의 width 합이며, 아닌 경우 화면에 보이는 영역의 width에 Zoom 배율을 곱한 값
+     */
+    private float getTimelineWidth() {
+        float width;
+        if (isFrameScrollEnabled && frames != null && !frames.isEmpty()) {
+            width = (float) thumbLeftImage.getHeight() * (frames.size() >> frameLevel);
+        } else {
+            width = getWidth() - 2 * padding;
+        }
+        return width * frameZoom;
+    }
+
+    /**
+     * Timeline이 화면보다 넓어서 Scroll이 필요한 상태인지 여부
+     */
+    private boolean isFrameTimelineScrollable() {
+        return isFrameScrollEnabled || frameZoom > 1f;
     }
 
     private void trackTouchEvent(MotionEvent event) {
         final int pointerIndex = event.findPointerIndex(activePointerId);
         try {
             final float x = event.getX(pointerIndex);
-
-            if (Thumb.MIN.equals(pressedThumb)) {
-                setNormalizedMinValue(screenToNormalized(x));
-            } else if (Thumb.MAX.equals(pressedThumb)) {
-                setNormalizedMaxValue(screenToNormalized(x));
-            } else if (Thumb.PATH.equals(pressedThumb)) {
-                setNormalizedValue(screenToNormalized(x));
-            } else if (isSlowMotionVideo && Thumb.SLOW_MIN.equals(pressedThumb)) {
-                setNormalizedSlowMinValue(screenToNormalized(x));
-            } else if (isSlowMotionVideo && Thumb.SLOW_MAX.equals(pressedThumb)) {
-                setNormalizedSlowMaxValue(screenToNormalized(x));
-            }
-
-            if (isSlowMotionVideo) {
-                if (normalizedMinValue > slowMinValue) {
-
-                    setNormalizedSlowMinValue(screenToNormalized(x));
-                }
-
-                if (normalizedMaxValue < slowMaxValue) {
-
-                    setNormalizedSlowMaxValue(screenToNormalized(x));
-                }
+            trackTouchPosition(x);
+            if (isLowLatencyScrubbing) {
+                updateScrubbing(event, pointerIndex, x);
             }
 
-
-            if (!isPlaying) {
-                setNormalizedValue(normalizedMinValue);
+            if (isFrameTimelineScrollable() && pressedThumb != null && !Thumb.PATH.equals(pressedThumb)) {
+                lastTrackingX = x;
+                startAutoScroll();
             }
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    private double screenToNormalized(float screenCoord) {
-        int width = getWidth();
-        if (width <= 2 * padding) {
-            // prevent division by zero, simply return 0.
-            return 0d;
-        } else {
-            double result = (screenCoord - padding) / (width - 2 * padding);
-            return Math.min(1d, Math.max(0d, result));
-        }
+    /**
+     * Event에 묶여 있는 이전 위치들까지 한번에 속도 계산에 반영하고, 예측이 켜진 경우 Thumb을 그릴 예측 거리를 갱신
+     * 값은 trackTouchPosition에서 마지막 위치로 한번만 갱신되며 예측 거리는 값에 반영되지 않음
+     */
+    private void updateScrubbing(MotionEvent event, int pointerIndex, float x) {
+        if (scrubPredictor.isEmpty()) {
+            lastScrubX = x;
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+                // Drag 시작시 한번만 요청, ACTION_UP까지 유지됨
+                requestUnbufferedDispatch(event);
+            }
+        }
+
+        int historySize = event.getHistorySize();
+        for (int i = 0; i < historySize; i++) {
+            scrubPredictor.addSample(event.getHistoricalX(pointerIndex, i), event.getHistoricalEventTime(i));
+        }
+        scrubPredictor.addSample(x, event.getEventTime());
+
+        // 손을 뗀 위치는 예측하지 않고 실제 위치에 그림
+        double delta = 0;
+        float timelineWidth = getTimelineWidth();
+        if (isScrubPredictionEnabled && timelineWidth > 0
+                && (event.getAction() & MotionEvent.ACTION_MASK) == MotionEvent.ACTION_MOVE) {
+            delta = (scrubPredictor.predict(x, SCRUB_PREDICTION_MS, scrubMaxPrediction) - x) / timelineWidth;
+        }
+
+        if (delta != 0 || scrubPredictionDelta != 0) {
+            // 그려진 위치는 값의 위치에서 최대 scrubMaxPrediction 만큼 떨어져 있으므로 그 범위까지 다시 그림
+            scrubPredictionDelta = delta;
+            invalidateMovedRange(lastScrubX, x, scrubMaxPrediction + thumbHalfWidth * 2, 0, getHeight());
+        }
+        lastScrubX = x;
+    }
+
+    /**
+     * Thumb을 그릴 위치, Drag 중인 Thumb에만 예측 거리를 더하고 다른 Thumb을 넘어가지 않도록 제한
+     */
+    private double getDrawnValue(Thumb thumb, double normalized) {
+        if (scrubPredictionDelta == 0 || !thumb.equals(pressedThumb) || secondaryPointers.size() > 0) {
+            return normalized;
+        }
+
+        double drawn = Math.max(0d, Math.min(1d, normalized + scrubPredictionDelta));
+        switch (thumb) {
+            case MIN:
+            case PATH:
+                return Math.min(drawn, normalizedMaxValue);
+            case MAX:
+                return Math.max(drawn, normalizedMinValue);
+            default:
+                return drawn;
+        }
+    }
+
+    /**
+     * 최소 Thumb을 Drag 중에 다른 손가락으로 최대 Thumb을 잡은 경우(또는 반대) 두 Thumb을 함께 움직이도록 함
+     */
+    private void onSecondaryPointerDown(MotionEvent event) {
+        if (!isDragging || isFrameScrolling || isFrameZooming) {
+            return;
+        }
+
+        Thumb otherThumb;
+        if (Thumb.MIN.equals(pressedThumb)) {
+            otherThumb = Thumb.MAX;
+        } else if (Thumb.MAX.equals(pressedThumb)) {
+            otherThumb = Thumb.MIN;
+        } else {
+            return;
+        }
+        if (secondaryPointers.containsThumb(otherThumb.ordinal())) {
+            return;
+        }
+
+        int actionIndex = event.getActionIndex();
+        float x = event.getX(actionIndex);
+        float y = event.getY(actionIndex);
+        boolean isInRange = Thumb.MIN.equals(otherThumb) ? isInLeftThumbRange(x, y, normalizedMinValue) : isInRightThumbRange(x, y, normalizedMaxValue);
+        if (isInRange) {
+            secondaryPointers.put(event.getPointerId(actionIndex), otherThumb.ordinal());
+            stopAutoScroll();
+            invalidate();
+        }
+    }
+
+    /**
+     * activePointerId의 손가락을 먼저 뗀 경우 남은 손가락이 Drag를 이어받음
+     */
+    private void onSecondaryPointerUp(MotionEvent event) {
+        int actionIndex = event.getActionIndex();
+        int pointerId = event.getPointerId(actionIndex);
+        if (isFrameScrolling) {
+            // Scroll은 남은 손가락이 이어받고, 위치가 튀지 않도록 기준 위치도 그 손가락으로 바꿈
+            if (pointerId == activePointerId) {
+                int newIndex = actionIndex == 0 ? 1 : 0;
+                activePointerId = event.getPointerId(newIndex);
+                lastFrameScrollX = event.getX(newIndex);
+            }
+            return;
+        }
+
+        if (secondaryPointers.remove(pointerId) != PointerThumbMap.NO_THUMB) {
+            invalidate();
+            return;
+        }
+
+        if (pointerId != activePointerId) {
+            return;
+        }
+        if (secondaryPointers.size() > 0) {
+            activePointerId = secondaryPointers.pointerIdAt(0);
+            pressedThumb = Thumb.values()[secondaryPointers.thumbAt(0)];
+            secondaryPointers.removeAt(0);
+            invalidate();
+        } else {
+            // 남은 손가락이 Thumb을 잡고 있지 않아도 Drag가 멈추지 않도록 다른 손가락이 같은 Thumb을 이어받음
+            int newIndex = actionIndex == 0 ? 1 : 0;
+            activePointerId = event.getPointerId(newIndex);
+            if (!isDragging) {
+                downMotionX = event.getX(newIndex);
+            }
+            scrubPredictor.reset();
+        }
+    }
+
+    private boolean isThumbPressed(Thumb thumb) {
+        return thumb.equals(pressedThumb) || secondaryPointers.containsThumb(thumb.ordinal());
+    }
+
+    /**
+     * 최소/최대 Thumb을 동시에 Drag 하는 경우 Event에 포함된 모든 Pointer의 위치를 모아서 한번에 적용
+     */
+    private void trackMultiTouchEvent(MotionEvent event) {
+        float minX = Float.NaN;
+        float maxX = Float.NaN;
+
+        int pointerIndex = event.findPointerIndex(activePointerId);
+        if (pointerIndex >= 0) {
+            if (Thumb.MIN.equals(pressedThumb)) {
+                minX = event.getX(pointerIndex);
+            } else {
+                maxX = event.getX(pointerIndex);
+            }
+        }
+        for (int i = 0; i < secondaryPointers.size(); i++) {
+            pointerIndex = event.findPointerIndex(secondaryPointers.pointerIdAt(i));
+            if (pointerIndex < 0) {
+                continue;
+            }
+            if (secondaryPointers.thumbAt(i) == Thumb.MIN.ordinal()) {
+                minX = event.getX(pointerIndex);
+            } else {
+                maxX = event.getX(pointerIndex);
+            }
+        }
+
+        double min = Float.isNaN(minX) ? normalizedMinValue : snapToKeyframe(screenToNormalized(minX));
+        double max = Float.isNaN(maxX) ? normalizedMaxValue : snapToKeyframe(screenToNormalized(maxX));
+        setNormalizedRangeValues(min, max);
+
+        if (isSlowMotionVideo) {
+            if (normalizedMinValue > slowMinValue) {
+                setNormalizedSlowMinValue(normalizedMinValue);
+            }
+            if (normalizedMaxValue < slowMaxValue) {
+                setNormalizedSlowMaxValue(normalizedMaxValue);
+            }
+        }
+
+        if (!isPlaying) {
+            setNormalizedValue(normalizedMinValue);
+        }
+    }
+
+    /**
+     * 두 Thumb의 새 위치를 함께 적용, 서로 지나친 경우 가운데에서 만나도록 하고
+     * 이전 위치에 의해 제한되지 않도록 적용 순서를 정함
+     */
+    private void setNormalizedRangeValues(double min, double max) {
+        if (min > max) {
+            min = max = (min + max) / 2;
+        }
+
+        if (min <= normalizedMaxValue) {
+            setNormalizedMinValue(min);
+            setNormalizedMaxValue(max);
+        } else {
+            setNormalizedMaxValue(max);
+            setNormalizedMinValue(min);
+        }
+    }
+
+    private void trackTouchPosition(float x) {
+        if (Thumb.MIN.equals(pressedThumb)) {
+            setNormalizedMinValue(snapToKeyframe(screenToNormalized(x)));
+        } else if (Thumb.MAX.equals(pressedThumb)) {
+            setNormalizedMaxValue(snapToKeyframe(screenToNormalized(x)));
+        } else if (Thumb.PATH.equals(pressedThumb)) {
+            setNormalizedValue(screenToNormalized(x));
+        } else if (isSlowMotionVideo && Thumb.SLOW_MIN.equals(pressedThumb)) {
+            setNormalizedSlowMinValue(screenToNormalized(x));
+        } else if (isSlowMotionVideo && Thumb.SLOW_MAX.equals(pressedThumb)) {
+            setNormalizedSlowMaxValue(screenToNormalized(x));
+        }
+
+        if (isSlowMotionVideo) {
+            if (normalizedMinValue > slowMinValue) {
+
+                setNormalizedSlowMinValue(screenToNormalized(x));
+            }
+
+            if (normalizedMaxValue < slowMaxValue) {
+
+                setNormalizedSlowMaxValue(screenToNormalized(x));
+            }
+        }
+
+
+        if (!isPlaying) {
+            setNormalizedValue(normalizedMinValue);
+        }
+    }
+
+    /**
+     * Keyframe Snap이 켜져 있고 가장 가까운 Keyframe이 화면상 keyframeSnapDistance 안에 있으면 Keyframe 위치를 return
+     */
+    private double snapToKeyframe(double normalized) {
+        if (!isKeyframeSnapEnabled || keyframeIndex == null || keyframeIndex.size() == 0) {
+            return normalized;
+        }
+
+        double value = timeline.ticksToValue(timeline.normalizedToTicks(normalized));
+        long keyframeUs = keyframeIndex.getNearestTimeUs(Math.round(value * 1000000d / keyframeValuePerSecond));
+        double keyframeNormalized = timeline.ticksToNormalized(timeline.valueToTicks(keyframeUs * keyframeValuePerSecond / 1000000d));
+        if (Math.abs(keyframeNormalized - normalized) * getTimelineWidth() > keyframeSnapDistance) {
+            return normalized;
+        }
+        return keyframeNormalized;
+    }
+
+    private double screenToNormalized(float screenCoord) {
+        float timelineWidth = getTimelineWidth();
+        if (timelineWidth <= 0) {
+            // prevent division by zero, simply return 0.
+            return 0d;
+        } else {
+            double result = (screenCoord - padding + frameScrollOffset) / timelineWidth;
+            return Math.min(1d, Math.max(0d, result));
+        }
+    }
+
+    /**
+     * Thumb을 화면 가장자리로 끌고 간 경우 Frame 목록을 자동으로 Scroll
+     */
+    private void startAutoScroll() {
+        if (!isAutoScrolling && getAutoScrollDelta(lastTrackingX) != 0) {
+            isAutoScrolling = true;
+            ViewCompat.postOnAnimation(this, autoScrollRunnable);
+        }
+    }
+
+    private void stopAutoScroll() {
+        isAutoScrolling = false;
+        removeCallbacks(autoScrollRunnable);
+    }
+
+    private final Runnable autoScrollRunnable = new Runnable() {
+        @Override
+        public void run() {
+            float delta = getAutoScrollDelta(lastTrackingX);
+            float previousOffset = frameScrollOffset;
+            if (!isAutoScrolling || !isDragging || delta == 0) {
+                isAutoScrolling = false;
+                return;
+            }
+
+            setFrameScrollOffsetInternal(frameScrollOffset + delta);
+            if (previousOffset == frameScrollOffset) {
+                // 더이상 Scroll 할 수 없음
+                isAutoScrolling = false;
+                return;
+            }
+            // Scroll된 만큼 손가락 아래의 위치가 바뀌었으므로 Thumb 위치를 다시 계산
+            trackTouchPosition(lastTrackingX);
+            ViewCompat.postOnAnimation(FrameRangeSeekBar.this, this);
+        }
+    };
+
+    /**
+     * 가장자리 영역에 깊이 들어갈수록 빠르게 Scroll 되도록 한 Frame당 Scroll 거리를 계산
+     */
+    private float getAutoScrollDelta(float x) {
+        float leftEdge = padding + autoScrollEdge;
+        float rightEdge = getWidth() - padding - autoScrollEdge;
+        if (x < leftEdge) {
+            return -autoScrollMaxSpeed * Math.min(1f, (leftEdge - x) / autoScrollEdge);
+        } else if (x > rightEdge) {
+            return autoScrollMaxSpeed * Math.min(1f, (x - rightEdge) / autoScrollEdge);
+        }
+        return 0;
+    }
+
+    /**
+     * Drag 중 바뀐 값을 다음 vsync에 전달하도록 예약, 한 Frame 안에서 여러번 바뀐 경우 마지막 값만 전달됨
+     */
+    private void scheduleValuesChanged(Thumb thumb) {
+        if (listener == null) {
+            return;
+        }
+        pendingDispatchThumb = thumb;
+        getDispatchTicker().start();
+    }
+
+    private VsyncTicker getDispatchTicker() {
+        if (dispatchTicker == null) {
+            dispatchTicker = new VsyncTicker(new VsyncTicker.Callback() {
+                @Override
+                public void onVsync(long frameTimeNanos) {
+                    dispatchPendingValuesChanged();
+                }
+            });
+        }
+        return dispatchTicker;
+    }
+
+    private void dispatchPendingValuesChanged() {
+        Thumb thumb = pendingDispatchThumb;
+        cancelPendingValuesChanged();
+        if (thumb != null) {
+            dispatchValuesChanged(thumb);
+        }
+    }
+
+    private void cancelPendingValuesChanged() {
+        pendingDispatchThumb = null;
+        if (dispatchTicker != null) {
+            dispatchTicker.stop();
+        }
+    }
+
+    /**
+     * Drag 중인 Thumb에 해당하는 값만 전달
+     */
+    private void dispatchValuesChanged(Thumb thumb) {
+        switch (thumb) {
+            case PATH:
+                notifySeekChanged();
+                break;
+            case SLOW_MIN:
+            case SLOW_MAX:
+                notifySlowValuesChanged();
+                break;
+            default:
+                notifyValuesChanged();
+                break;
+        }
+    }
+
+    /**
+     * Listener 호출은 아래 notify 함수를 통해서만 하도록 함
+     * 값은 Boxing 없이 primitive로 전달하며, Executor가 지정된 경우 호출 시점의 값을 복사하여 비동기로 전달
+     */
+    private void notifyValuesChanged() {
+        final OnFrameRangeSeekBarPrimitiveChangeListener target = listener;
+        if (target == null) {
+            return;
+        }
+
+        final double minValue = getSelectedMinAsDouble();
+        final double maxValue = getSelectedMaxAsDouble();
+        if (listenerDispatcher == null) {
+            target.onFrameRangeSeekBarValuesChanged(this, minValue, maxValue);
+            return;
+        }
+        listenerDispatcher.post(DISPATCH_KEY_VALUES, new Runnable() {
+            @Override
+            public void run() {
+                target.onFrameRangeSeekBarValuesChanged(FrameRangeSeekBar.this, minValue, maxValue);
+            }
+        });
+    }
+
+    private void notifySlowValuesChanged() {
+        final OnFrameRangeSeekBarPrimitiveChangeListener target = listener;
+        if (target == null) {
+            return;
+        }
+
+        final double minValue = getSelectedSlowMinAsDouble();
+        final double maxValue = getSelectedSlowMaxAsDouble();
+        if (listenerDispatcher == null) {
+            target.onFrameRangeSeekBarSlowValuesChanged(this, minValue, maxValue);
+            return;
+        }
+        listenerDispatcher.post(DISPATCH_KEY_SLOW_VALUES, new Runnable() {
+            @Override
+            public void run() {
+                target.onFrameRangeSeekBarSlowValuesChanged(FrameRangeSeekBar.this, minValue, maxValue);
+            }
+        });
+    }
+
+    private void notifySeekChanged() {
+        final OnFrameRangeSeekBarPrimitiveChangeListener target = listener;
+        if (target == null) {
+            return;
+        }
+
+        final double value = getSelectedPathAsDouble();
+        if (listenerDispatcher == null) {
+            target.onFrameRangeSeekChanged(this, value);
+            return;
+        }
+        listenerDispatcher.post(DISPATCH_KEY_SEEK, new Runnable() {
+            @Override
+            public void run() {
+                target.onFrameRangeSeekChanged(FrameRangeSeekBar.this, value);
+            }
+        });
+    }
+
+    /**
+     * @param start true인 경우 onStartTrackingTouch, false인 경우 onStopTrackingTouch
+     */
+    private void notifyTrackingTouch(final boolean start) {
+        final OnFrameRangeSeekBarPrimitiveChangeListener target = listener;
+        if (target == null) {
+            return;
+        }
+
+        if (listenerDispatcher == null) {
+            if (start) {
+                target.onStartTrackingTouch(this);
+            } else {
+                target.onStopTrackingTouch(this);
+            }
+            return;
+        }
+        listenerDispatcher.post(ConflatingDispatcher.KEY_NONE, new Runnable() {
+            @Override
+            public void run() {
+                if (start) {
+                    target.onStartTrackingTouch(FrameRangeSeekBar.this);
+                } else {
+                    target.onStopTrackingTouch(FrameRangeSeekBar.this);
+                }
+            }
+        });
+    }
+
+    /**
+     * onTouchEvent에서 ActionDown이 실행될때 Dragging이 시작 된것으로 간주
+     */
+    void onStartTrackingTouch() {
+        isDragging = true;
+        notifyTrackingTouch(true);
+    }
+
+    /**
+     * onTouchEvent에서 ActionUp이 실행될때 Dragging이 끝난 것으로 간주
+     */
+    void onStopTrackingTouch() {
+        isDragging = false;
+        notifyTrackingTouch(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected T normalizedToValue(double normalized) {
+        return (T) timeline.ticksToNumber(timeline.normalizedToTicks(normalized));
+    }
+
+    /**
+     * 현재 적용된 Frame 조정 최대값을 return
+     *
+     * @return Frame 조정 최대값 return
+     */
+    @SuppressWarnings("unchecked")
+    public T getSelectedMaxValue() {
+        return (T) timeline.ticksToNumber(timeline.roundToStep(maxValueTicks));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getSelectedMinValue() {
+        return (T) timeline.ticksToNumber(timeline.roundToStep(minValueTicks));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getSelectedSlowMaxValue() {
+        return (T) timeline.ticksToNumber(timeline.roundToStep(slowMaxValueTicks));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getSelectedSlowMinValue() {
+        return (T) timeline.ticksToNumber(timeline.roundToStep(slowMinValueTicks));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getSelectedPathValue() {
+        return (T) timeline.ticksToNumber(timeline.roundToStep(pathValueTicks));
+    }
+
+    /*
+     * 아래 함수들은 get...Value와 같은 값을 Boxing 없이 return
+     * AsLong은 Long Type으로 변환할때와 같이 소수점 이하를 버리며, 정수 Type에서는 long 범위 전체를 정확히 return
+     * AsDouble은 2^53을 넘는 정수를 정확히 표현하지 못하므로 LONG Type의 큰 값은 AsLong 또는 get...Value를 사용
+     */
+
+    public double getSelectedMaxAsDouble() {
+        return timeline.ticksToValue(timeline.roundToStep(maxValueTicks));
+    }
+
+    public long getSelectedMaxAsLong() {
+        return timeline.ticksToLong(timeline.roundToStep(maxValueTicks));
+    }
+
+    public double getSelectedMinAsDouble() {
+        return timeline.ticksToValue(timeline.roundToStep(minValueTicks));
+    }
+
+    public long getSelectedMinAsLong() {
+        return timeline.ticksToLong(timeline.roundToStep(minValueTicks));
+    }
+
+    public double getSelectedSlowMaxAsDouble() {
+        return timeline.ticksToValue(timeline.roundToStep(slowMaxValueTicks));
+    }
+
+    public long getSelectedSlowMaxAsLong() {
+        return timeline.ticksToLong(timeline.roundToStep(slowMaxValueTicks));
+    }
+
+    public double getSelectedSlowMinAsDouble() {
+        return timeline.ticksToValue(timeline.roundToStep(slowMinValueTicks));
+    }
+
+    public long getSelectedSlowMinAsLong() {
+        return timeline.ticksToLong(timeline.roundToStep(slowMinValueTicks));
+    }
+
+    public double getSelectedPathAsDouble() {
+        return timeline.ticksToValue(timeline.roundToStep(pathValueTicks));
+    }
+
+    public long getSelectedPathAsLong() {
+        return timeline.ticksToLong(timeline.roundToStep(pathValueTicks));
+    }
+
+    /**
+     * 이미 Decode된 Frame 목록을 노출, 전달된 Bitmap은 FrameRangeSeekBar에서 관리하며 recycle 됨
+     * Slot 크기는 Layout이 정해진 후 계산되며, 처음 Layout 시 Slot보다 조금 큰 크기로 줄여서 보관해두고
+     * 이후 화면 회전 등으로 크기가 바뀌면 보관된 Frame에서 다시 잘라냄
+     * 원본 크기의 Frame을 Decode하지 않도록 가능하면 FrameSource와 setFrameSource를 사용
+     */
+    public void setFrames(List<Bitmap> list) {
+        clearFrameSource();
+        releaseRetainedFrames();
+
+        if (frames == null) {
+            frames = new ArrayList<>();
+        } else {
+            recycleFrames();
+        }
+
+        if (list != null && !list.isEmpty()) {
+            retainedFrames = new ArrayList<>(list);
+        }
+        resetFrameZoom();
+        layoutRetainedFrames();
+        invalidate();
+    }
+
+    /**
+     * 동영상 Source로부터 Frame을 Background에서 추출하여 준비되는 순서대로 노출
+     * 가운데 Slot부터 추출되며, View가 Detach되거나 Source가 변경되면 진행중인 작업은 취소됨
+     * 전달된 Source는 FrameRangeSeekBar에서 release 함, 현재 Source를 다시 전달하면 release 하지 않고 Frame 개수만 바꿈
+     *
+     * @param source     Frame을 추출할 Source
+     * @param frameCount 노출할 Frame 개수
+     */
+    public void setFrameSource(FrameSource source, int frameCount) {
+        if (source != null && source == frameSource) {
+            // 다시 사용할 Source이므로 clearFrameSource에서 release 되지 않도록 함
+            frameSource = null;
+        }
+        clearFrameSource();
+        releaseRetainedFrames();
+
+        if (frames == null) {
+            frames = new ArrayList<>();
+        } else {
+            recycleFrames();
+        }
+
+        if (source == null || frameCount <= 0) {
+            invalidate();
+            return;
+        }
+
+        frameSource = source;
+        frameSourceCount = frameCount;
+        isFramesCached = true;
+        for (int index = 0; index < frameCount; index++) {
+            frames.add(null);
+        }
+        resetFrameZoom();
+
+        if (frameExtractor == null) {
+            frameExtractor = new FrameExtractor(new FrameExtractor.Callback() {
+                @Override
+                public void onFrameExtracted(int index, Bitmap frame) {
+                    // Scroll되어 화면에서 벗어난 Slot의 Frame은 Cache에만 남겨둠
+                    if (frames != null && index >= frameWindowFirst && index <= frameWindowLast) {
+                        frames.set(index, frame);
+                        updateFrameComposite(index);
+                        releaseFallbackFramesIfCovered();
+                        invalidate();
+                    }
+                }
+            });
+        }
+        requestSourceFrames();
+        invalidate();
+    }
+
+    private void clearFrameSource() {
+        if (frameExtractor != null) {
+            frameExtractor.cancel();
+        }
+        if (frameSource != null) {
+            frameSource.release();
+            frameSource = null;
+        }
+        frameSourceCount = 0;
+    }
+
+    /**
+     * 현재 Layout 기준으로 Frame 추출을 다시 시작
+     */
+    private void requestSourceFrames() {
+        if (frameSource == null || frames == null || getWidth() == 0) {
+            return;
+        }
+
+        // 모든 단계에서 같은 크기로 추출하며, 단계가 올라가면 화면에서는 Slot 크기만큼 줄여서 그림
+        frameSourceWidth = getFrameSlotWidth(frameSourceCount);
+        frameSourceHeight = thumbLeftImage.getHeight();
+        FrameDiskCache diskCache = isFrameDiskCacheEnabled ? FrameDiskCache.getInstance(getContext()) : null;
+        frameExtractor.setTarget(frameSource, diskCache, frames.size(), frameSourceWidth, frameSourceHeight,
+                getMaxFrameSlotWidth(frameSourceCount), frameSourceHeight, getFrameConfig());
+
+        frameWindowFirst = 0;
+        frameWindowLast = frames.size() - 1;
+        updateFrameWindow();
+    }
+
+    /**
+     * 화면에 보이는 Slot과 양쪽 prefetch Slot만 Frame을 준비하고, 범위를 벗어난 Slot의 Frame은 해제
+     * 준비되지 않은 Slot은 ThumbnailCache에서 먼저 찾고, 없는 Slot만 화면 가운데에서 가까운 순서로 추출 요청
+     */
+    private void updateFrameWindow() {
+        if (frameSource == null || frames == null || getWidth() == 0) {
+            return;
+        }
+
+        int frameCount = frames.size();
+        int visibleFirst = getFirstVisibleSlot(frameCount);
+        int visibleLast = getLastVisibleSlot(frameCount);
+        int first = Math.max(0, visibleFirst - FRAME_PREFETCH_SLOT_COUNT);
+        int last = Math.min(frameCount - 1, visibleLast + FRAME_PREFETCH_SLOT_COUNT);
+
+        // 범위를 벗어난 Slot은 ThumbnailCache에만 남겨두어 Slot 개수와 상관없이 메모리 사용량이 일정하도록 함
+        for (int index = frameWindowFirst; index <= frameWindowLast; index++) {
+            if (index < first || index > last) {
+                frames.set(index, null);
+            }
+        }
+        frameExtractor.retain(first, last);
+        frameWindowFirst = first;
+        frameWindowLast = last;
+
+        String sourceId = frameSource.getId();
+        long durationUs = thumbnailCache.getDurationUs(sourceId);
+        Bitmap.Config frameConfig = getFrameConfig();
+        int centerIndex = (visibleFirst + visibleLast) / 2;
+        int visibleCount = visibleLast - visibleFirst + 1;
+        for (int index = first; index <= last; index++) {
+            if (frames.get(index) != null) {
+                continue;
+            }
+
+            if (durationUs > 0) {
+                long timeUs = FrameExtractor.getFrameTimeUs(durationUs, index, frameCount);
+                Bitmap cachedFrame = thumbnailCache.get(sourceId, timeUs, frameSourceWidth, frameSourceHeight, frameConfig);
+                if (cachedFrame != null) {
+                    frames.set(index, cachedFrame);
+                    isFrameCompositeDirty = true;
+                    continue;
+                }
+            }
+
+            // 화면에 보이는 Slot을 prefetch Slot보다 먼저 추출
+            int priority;
+            if (index < visibleFirst) {
+                priority = visibleCount + (visibleFirst - index);
+            } else if (index > visibleLast) {
+                priority = visibleCount + (index - visibleLast);
+            } else {
+                priority = Math.abs(index - centerIndex);
+            }
+            frameExtractor.request(index, priority);
+        }
+        releaseFallbackFramesIfCovered();
+    }
+
+    /**
+     * Slot 하나의 width, Scroll 모드에서는 Frame 높이와 같은 정사각형 Slot을 사용
+     */
+    private int getFrameSlotWidth(int frameCount) {
+        if (isFrameScrollEnabled) {
+            return thumbLeftImage.getHeight();
+        }
+        return (int) ((getWidth() - (padding * 2)) / frameCount);
+    }
+
+    /**
+     * 화면 방향과 상관없이 가장 큰 Slot의 width, 화면이 회전되어도 같은 크기의 Source Tier를 사용하도록 함
+     */
+    private int getMaxFrameSlotWidth(int frameCount) {
+        int slotWidth = getFrameSlotWidth(frameCount);
+        if (isFrameScrollEnabled) {
+            return slotWidth;
+        }
+        DisplayMetrics displayMetrics = getResources().getDisplayMetrics();
+        int maxScreenWidth = Math.max(displayMetrics.widthPixels, displayMetrics.heightPixels);
+        return Math.max(slotWidth, (int) ((maxScreenWidth - (padding * 2)) / frameCount));
+    }
+
+    /**
+     * Slot이 frameCount개인 단계에서 화면에 보이는 첫번째 Slot
+     */
+    private int getFirstVisibleSlot(int frameCount) {
+        if (!isFrameTimelineScrollable() || frameCount <= 0) {
+            return 0;
+        }
+        float frameScreen = getTimelineWidth() / frameCount;
+        return Math.max(0, Math.min(frameCount - 1, (int) (frameScrollOffset / frameScreen)));
+    }
+
+    /**
+     * Slot이 frameCount개인 단계에서 화면에 보이는 마지막 Slot
+     */
+    private int getLastVisibleSlot(int frameCount) {
+        if (frameCount <= 0) {
+            return -1;
+        }
+        if (!isFrameTimelineScrollable()) {
+            return frameCount - 1;
+        }
+        float frameScreen = getTimelineWidth() / frameCount;
+        float viewportRight = frameScrollOffset + getWidth() - 2 * padding;
+        return Math.max(0, Math.min(frameCount - 1, (int) Math.ceil(viewportRight / frameScreen) - 1));
+    }
+
+    private float getMaxFrameScrollOffset() {
+        if (!isFrameTimelineScrollable()) {
+            return 0;
+        }
+        return Math.max(0, getTimelineWidth() - (getWidth() - 2 * padding));
     }
 
-    @SuppressWarnings("unchecked")
-    private T roundOffValueToStep(T value) {
-        double d = Math.round(value.doubleValue() / absoluteStepValuePrim) * absoluteStepValuePrim;
-        return (T) numberType.toNumber(Math.max(absoluteMinValuePrim, Math.min(absoluteMaxValuePrim, d)));
+    private void setFrameScrollOffsetInternal(float offset) {
+        float newOffset = Math.max(0, Math.min(getMaxFrameScrollOffset(), offset));
+        if (newOffset == frameScrollOffset) {
+            return;
+        }
+        frameScrollOffset = newOffset;
+        updateFrameWindow();
+        invalidate();
     }
 
     /**
-     * onTouchEvent에서 ActionDown이 실행될때 Dragging이 시작 된것으로 간주
+     * Zoom 배율을 변경, focusX 위치의 시간이 화면에서 같은 위치에 남도록 Scroll 위치를 조정
      */
-    void onStartTrackingTouch() {
-        isDragging = true;
-        if (listener != null) {
-            listener.onStartTrackingTouch(this);
+    private void setFrameZoomInternal(float zoom, float focusX) {
+        float newZoom = Math.max(1f, Math.min(maxFrameZoom, zoom));
+        if (newZoom == frameZoom || frames == null || frames.isEmpty()) {
+            return;
+        }
+
+        float timelineWidth = getTimelineWidth();
+        double focusNormalized = timelineWidth > 0 ? (focusX - padding + frameScrollOffset) / timelineWidth : 0d;
+        frameZoom = newZoom;
+        frameScrollOffset = Math.max(0, Math.min(getMaxFrameScrollOffset(), (float) (focusNormalized * getTimelineWidth() - (focusX - padding))));
+        releaseFrameComposite();
+
+        int level = getFrameLevelForZoom(newZoom);
+        if (level != frameLevel) {
+            setFrameLevel(level);
+        } else {
+            updateFrameWindow();
         }
+        invalidate();
     }
 
     /**
-     * onTouchEvent에서 ActionUp이 실행될때 Dragging이 끝난 것으로 간주
+     * Zoom 배율에 맞는 단계, 화면에서 Slot이 기본 크기보다 커지지 않는 가장 낮은 단계를 사용
+     * Source의 길이를 알고 있는 경우 Slot 하나가 MIN_FRAME_SLOT_DURATION_US보다 짧아지지 않도록 제한
      */
-    void onStopTrackingTouch() {
-        isDragging = false;
-        if (listener != null) {
-            listener.onStopTrackingTouch(this);
+    private int getFrameLevelForZoom(float zoom) {
+        if (frameSource == null) {
+            // 직접 전달된 Frame은 단계가 없으므로 늘려서 그림
+            return 0;
+        }
+
+        int maxLevel = MAX_FRAME_LEVEL;
+        long durationUs = thumbnailCache.getDurationUs(frameSource.getId());
+        if (durationUs > 0) {
+            while (maxLevel > 0 && durationUs / ((long) frameSourceCount << maxLevel) < MIN_FRAME_SLOT_DURATION_US) {
+                maxLevel--;
+            }
+        }
+
+        int level = 0;
+        while (level < maxLevel && (1 << level) < zoom) {
+            level++;
         }
+        return level;
     }
 
-    @SuppressWarnings("unchecked")
-    protected T normalizedToValue(double normalized) {
-        double v = absoluteMinValuePrim + normalized * (absoluteMaxValuePrim - absoluteMinValuePrim);
-        // Decimalpoints가 적용되기 위해서는 Math.round함수를 적용하도록 하여야함.
-        return (T) numberType.toNumber(Math.round(v * 100) / 100d);
+    /**
+     * 다른 단계의 Slot 목록으로 교체하고 추출을 다시 시작
+     * 이전 단계의 Frame은 새 단계의 Frame이 화면을 모두 채울 때까지 fallback으로 남겨둠
+     */
+    private void setFrameLevel(int level) {
+        if (fallbackFrames == null || isFrameWindowCovered()) {
+            // 이전 fallback이 아직 필요한 경우(빠르게 여러 단계를 지나는 경우)에는 그대로 사용
+            fallbackFrames = frames;
+        }
+        frameLevel = level;
+
+        int frameCount = frameSourceCount << level;
+        frames = new ArrayList<>(frameCount);
+        for (int index = 0; index < frameCount; index++) {
+            frames.add(null);
+        }
+        requestSourceFrames();
     }
 
     /**
-     * 현재 적용된 Frame 조정 최대값을 return
+     * 화면에 보이는 Slot의 Frame이 모두 준비된 경우 fallback Frame을 해제
+     * Source에서 추출된 Frame은 ThumbnailCache가 가지고 있으므로 참조만 버림
+     */
+    private void releaseFallbackFramesIfCovered() {
+        if (fallbackFrames != null && isFrameWindowCovered()) {
+            fallbackFrames = null;
+        }
+    }
+
+    private boolean isFrameWindowCovered() {
+        int last = getLastVisibleSlot(frames.size());
+        for (int index = getFirstVisibleSlot(frames.size()); index <= last; index++) {
+            if (frames.get(index) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void resetFrameZoom() {
+        frameZoom = 1f;
+        frameLevel = 0;
+        frameScrollOffset = 0;
+        fallbackFrames = null;
+    }
+
+    /**
+     * Frame 목록을 가로로 Scroll 할 수 있는 모드를 설정
+     * Scroll 모드에서는 Slot의 크기가 고정되고, 화면에 보이는 Slot과 양쪽 일부 Slot만 Frame을 준비하므로
+     * 긴 동영상도 Frame 개수와 상관없이 일정한 메모리로 보여줄 수 있음
+     * Thumb을 화면 가장자리로 끌고 가면 자동으로 Scroll 됨
+     */
+    public void setFrameScrollEnabled(boolean enabled) {
+        if (isFrameScrollEnabled == enabled) {
+            return;
+        }
+        isFrameScrollEnabled = enabled;
+        frameScrollOffset = 0;
+        releaseFrameComposite();
+        layoutRetainedFrames();
+        requestSourceFrames();
+        invalidate();
+    }
+
+    @SuppressWarnings("unused")
+    public boolean isFrameScrollEnabled() {
+        return isFrameScrollEnabled;
+    }
+
+    @SuppressWarnings("unused")
+    public void setFrameScrollOffset(float offset) {
+        setFrameScrollOffsetInternal(offset);
+    }
+
+    @SuppressWarnings("unused")
+    public float getFrameScrollOffset() {
+        return frameScrollOffset;
+    }
+
+    /**
+     * Drag 중 Touch Event를 묶어서 받지 않고 바로 받아 Touch와 Thumb 사이의 지연을 줄임 (API 21 이상)
+     * 묶여서 전달된 이전 위치들은 한번에 반영하며, Listener 호출은 notifyWhileDragging 설정을 따름
+     */
+    public void setLowLatencyScrubbing(boolean enabled) {
+        isLowLatencyScrubbing = enabled;
+    }
+
+    @SuppressWarnings("unused")
+    public boolean isLowLatencyScrubbing() {
+        return isLowLatencyScrubbing;
+    }
+
+    /**
+     * Low Latency Scrubbing 중 최근 속도로 한 Frame 뒤의 위치를 예측하여 Thumb을 그림
+     * 예측은 Thumb을 그리는 위치에만 적용되며, 값과 Listener에는 항상 실제 Touch 위치가 전달됨
+     */
+    public void setScrubPredictionEnabled(boolean enabled) {
+        isScrubPredictionEnabled = enabled;
+    }
+
+    @SuppressWarnings("unused")
+    public boolean isScrubPredictionEnabled() {
+        return isScrubPredictionEnabled;
+    }
+
+    /**
+     * 재생중 Play Path를 빠르게 밀고 놓으면 속도에 따라 계속 이동하도록 설정
+     * 이동 중에는 onFrameRangeSeekChanged를 초당 최대 10번만 호출하며, 멈춘 뒤 마지막 위치와 onStopTrackingTouch를 전달
+     */
+    public void setPathFlingEnabled(boolean enabled) {
+        isPathFlingEnabled = enabled;
+        if (!enabled) {
+            abortPathFling();
+            recycleVelocityTracker();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public boolean isPathFlingEnabled() {
+        return isPathFlingEnabled;
+    }
+
+    /**
+     * Keyframe Snap에 사용할 Keyframe 목록을 지정
      *
-     * @return Frame 조정 최대값 return
+     * @param index          Keyframe 목록, null인 경우 Snap 하지 않음
+     * @param valuePerSecond 1초에 해당하는 FrameRangeSeekBar의 값 (예: 값의 단위가 ms인 경우 1000)
+     * @see KeyframeIndex#fromFile(String)
      */
-    public T getSelectedMaxValue() {
-        return roundOffValueToStep(normalizedToValue(normalizedMaxValue));
+    public void setKeyframeIndex(KeyframeIndex index, double valuePerSecond) {
+        keyframeIndex = valuePerSecond > 0 ? index : null;
+        keyframeValuePerSecond = valuePerSecond;
     }
 
-    public T getSelectedMinValue() {
-        return roundOffValueToStep(normalizedToValue(normalizedMinValue));
+    /**
+     * 최소/최대 Thumb을 Drag 할때 가까운 Keyframe에 붙도록 설정, setKeyframeIndex로 Keyframe 목록이 지정되어야 동작함
+     * Step이 Keyframe 간격보다 큰 경우 Step 단위로 반올림된 값이 전달되므로 Step은 값의 최소 단위로 설정해야 함
+     */
+    public void setKeyframeSnapEnabled(boolean enabled) {
+        isKeyframeSnapEnabled = enabled;
     }
 
-    public T getSelectedSlowMaxValue() {
-        return roundOffValueToStep(normalizedToValue(slowMaxValue));
+    @SuppressWarnings("unused")
+    public boolean isKeyframeSnapEnabled() {
+        return isKeyframeSnapEnabled;
     }
 
-    public T getSelectedSlowMinValue() {
-        return roundOffValueToStep(normalizedToValue(slowMinValue));
+    /**
+     * 두 손가락으로 Timeline을 확대/축소할 수 있도록 설정
+     * 확대하면 단계별로 Slot 개수가 2배인 Frame을 추출하며, 이미 추출된 단계의 Frame은 Cache에서 재사용됨
+     */
+    public void setFrameZoomEnabled(boolean enabled) {
+        isFrameZoomEnabled = enabled;
+        if (!enabled) {
+            setFrameZoom(1f);
+        }
     }
 
-    public T getSelectedPathValue() {
-        return roundOffValueToStep(normalizedToValue(normalizedValue));
+    @SuppressWarnings("unused")
+    public boolean isFrameZoomEnabled() {
+        return isFrameZoomEnabled;
     }
 
-    public void setFrames(List<Bitmap> list) {
-        calculateBitmap(list);
-        invalidate();
+    /**
+     * Zoom 배율을 설정, 화면 가운데를 기준으로 확대/축소됨
+     *
+     * @param zoom 1 ~ maxFrameZoom 범위의 배율
+     */
+    public void setFrameZoom(float zoom) {
+        setFrameZoomInternal(zoom, getWidth() / 2f);
     }
 
-    private void calculateBitmap(List<Bitmap> list) {
-        if (frames == null) {
-            frames = new ArrayList<>();
-        } else {
-            frames.clear();
+    @SuppressWarnings("unused")
+    public float getFrameZoom() {
+        return frameZoom;
+    }
+
+    @SuppressWarnings("unused")
+    public void setMaxFrameZoom(float maxZoom) {
+        maxFrameZoom = Math.max(1f, maxZoom);
+        if (frameZoom > maxFrameZoom) {
+            setFrameZoom(maxFrameZoom);
         }
+    }
 
-        if (list != null && !list.isEmpty()) {
-            int frameScreen = (screenWidth - (thumbLeftImage.getWidth() * 2)) / list.size();
-            for (int index = 0; index < list.size(); index++) {
-                Bitmap bitmap = list.get(index);
-                Bitmap resizeBitmap = Bitmap.createScaledBitmap(bitmap, frameScreen, frameScreen, false);
+    @SuppressWarnings("unused")
+    public float getMaxFrameZoom() {
+        return maxFrameZoom;
+    }
+
+    /**
+     * 보관된 Frame을 현재 Layout의 Slot 크기에 맞게 줄여서 frames를 만듦
+     * Layout이 정해지기 전이거나 Slot 크기와 Config가 그대로인 경우 아무것도 하지 않음
+     */
+    private void layoutRetainedFrames() {
+        if (retainedFrames == null || frames == null || getWidth() == 0) {
+            return;
+        }
+
+        int count = retainedFrames.size();
+        int frameWidth = Math.max(1, getFrameSlotWidth(count));
+        int frameHeight = thumbLeftImage.getHeight();
+        Bitmap.Config frameConfig = getFrameConfig();
+        if (frames.size() == count) {
+            Bitmap frame = frames.get(0);
+            if (frame.getWidth() == frameWidth && frame.getHeight() == frameHeight && frame.getConfig() == frameConfig) {
+                return;
+            }
+        }
 
-                if (frames != null) {
-                    frames.add(resizeBitmap);
+        recycleFrames();
+        trimRetainedFrames(frameWidth, frameHeight);
+
+        boolean isHardwareFrame = BitmapUtil.isHardwareConfig(frameConfig);
+        for (int index = 0; index < count; index++) {
+            // 같은 크기의 Frame은 Pool에서 재사용하여 새로 할당하지 않도록 함
+            Bitmap resizeBitmap = bitmapScaler.scale(retainedFrames.get(index), bitmapPool.get(frameWidth, frameHeight, isHardwareFrame ? Bitmap.Config.ARGB_8888 : frameConfig));
+            if (isHardwareFrame) {
+                Bitmap hardwareBitmap = resizeBitmap.copy(frameConfig, false);
+                if (hardwareBitmap != null) {
+                    bitmapPool.put(resizeBitmap);
+                    resizeBitmap = hardwareBitmap;
                 }
-                bitmap.recycle();
+            }
+            frames.add(resizeBitmap);
+        }
+    }
+
+    /**
+     * 처음 Layout 시 전달된 원본 Frame을 Slot 크기의 RETAINED_FRAME_HEADROOM배 정도로 줄여서 보관하고 원본은 recycle
+     * 비율은 유지하며, 원본이 이미 충분히 작은 경우 그대로 보관함
+     */
+    private void trimRetainedFrames(int frameWidth, int frameHeight) {
+        if (isRetainedFramesTrimmed) {
+            return;
+        }
+        isRetainedFramesTrimmed = true;
+
+        for (int index = 0; index < retainedFrames.size(); index++) {
+            Bitmap bitmap = retainedFrames.get(index);
+            float scale = RETAINED_FRAME_HEADROOM * Math.max((float) frameWidth / bitmap.getWidth(), (float) frameHeight / bitmap.getHeight());
+            if (scale >= 1f) {
+                continue;
+            }
+            int width = Math.max(1, (int) Math.ceil(bitmap.getWidth() * scale));
+            int height = Math.max(1, (int) Math.ceil(bitmap.getHeight() * scale));
+            retainedFrames.set(index, bitmapScaler.scale(bitmap, bitmapPool.get(width, height, Bitmap.Config.ARGB_8888)));
+            bitmap.recycle();
+        }
+    }
+
+    private void releaseRetainedFrames() {
+        if (retainedFrames != null) {
+            for (int index = 0; index < retainedFrames.size(); index++) {
+                bitmapPool.put(retainedFrames.get(index));
+            }
+            retainedFrames = null;
+        }
+        isRetainedFramesTrimmed = false;
+    }
+
+    /**
+     * 현재 노출중인 Frame들을 Pool에 반환, ThumbnailCache에서 공유되는 Frame은 반환하지 않음
+     */
+    private void recycleFrames() {
+        if (!isFramesCached) {
+            for (int index = 0; index < frames.size(); index++) {
+                bitmapPool.put(frames.get(index));
             }
         }
+        frames.clear();
+        fallbackFrames = null;
+        isFramesCached = false;
+        isFrameCompositeDirty = true;
     }
 
     public void release() {
+        abortPathFling();
+        recycleVelocityTracker();
+        cancelPendingValuesChanged();
+        if (listenerDispatcher != null) {
+            listenerDispatcher.clear();
+        }
+        playbackTimeSource = null;
+        if (playbackTicker != null) {
+            playbackTicker.stop();
+        }
+        clearFrameSource();
+        releaseRetainedFrames();
+
         if (frames != null) {
-            for (Bitmap bitmap : frames) {
-                bitmap.recycle();
-            }
-            frames.clear();
+            recycleFrames();
             frames = null;
         }
+        releaseFrameComposite();
 
         if (thumbLeftImage != null) {
             thumbLeftImage.recycle();
@@ -956,9 +2649,17 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         return notifyWhileDragging;
     }
 
+    /**
+     * Drag 중에도 Listener에 값 변경을 전달할지 설정
+     * true인 경우 Touch Event마다 전달하지 않고 화면 갱신 주기(vsync)당 한번 최신 값만 전달하며,
+     * false인 경우 Touch를 놓았을때만 전달함
+     */
     @SuppressWarnings("unused")
     public void setNotifyWhileDragging(boolean flag) {
         this.notifyWhileDragging = flag;
+        if (!flag) {
+            cancelPendingValuesChanged();
+        }
     }
 
     @SuppressWarnings("unused")
@@ -970,12 +2671,180 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
         this.isPlaying = playing;
 
         if (!playing) {
+            // Play Path가 최소 Thumb 위치로 이동하므로 Fling이 멈춘 위치는 전달하지 않음
+            cancelPathFling();
             setNormalizedValue(normalizedMinValue);
         }
 
+        updatePlaybackTicker();
+        invalidate();
+    }
+
+    /**
+     * 재생 위치를 제공하는 Source를 지정, 재생중에는 vsync마다 위치를 읽어서 Play Path를 부드럽게 이동시킴
+     * Player의 위치 Callback 주기와 상관없이 위치 값이 갱신되지 않은 동안에는 재생 속도로 위치를 보간함
+     * Source가 재생중이 아니거나 setPlaying(false) 상태에서는 vsync Callback을 완전히 중단함
+     *
+     * @param source 재생 위치 Source, null인 경우 setProgress로만 위치가 갱신됨
+     */
+    public void setPlaybackTimeSource(PlaybackTimeSource source) {
+        playbackTimeSource = source;
+        lastReportedPosition = Double.NaN;
+        updatePlaybackTicker();
+    }
+
+    /**
+     * Play Path를 갱신할 최대 횟수(초당)를 제한, 0 이하인 경우 매 vsync마다 갱신
+     */
+    public void setPlaybackFrameRate(int framesPerSecond) {
+        getPlaybackTicker().setMaxFrameRate(framesPerSecond);
+    }
+
+    /**
+     * PlaybackTimeSource의 재생 상태나 위치가 Seek 등으로 바뀐 경우 호출
+     */
+    public void notifyPlaybackStateChanged() {
+        lastReportedPosition = Double.NaN;
+        updatePlaybackTicker();
+    }
+
+    private VsyncTicker getPlaybackTicker() {
+        if (playbackTicker == null) {
+            playbackTicker = new VsyncTicker(new VsyncTicker.Callback() {
+                @Override
+                public void onVsync(long frameTimeNanos) {
+                    if (playbackTimeSource == null || !playbackTimeSource.isPlaying()) {
+                        updatePlaybackTicker();
+                        return;
+                    }
+                    updatePlaybackPosition(frameTimeNanos);
+                }
+            });
+        }
+        return playbackTicker;
+    }
+
+    /**
+     * Attach 되어 있고 재생중인 경우에만 vsync Callback을 받도록 함
+     */
+    private void updatePlaybackTicker() {
+        boolean shouldRun = isAttached && isPlaying && playbackTimeSource != null && playbackTimeSource.isPlaying();
+        if (shouldRun) {
+            getPlaybackTicker().start();
+            return;
+        }
+
+        if (playbackTicker != null) {
+            playbackTicker.stop();
+        }
+        if (isPlaying && playbackTimeSource != null) {
+            // 멈춘 위치를 보간 없이 정확하게 표시
+            lastReportedPosition = Double.NaN;
+            setPlaybackPosition(playbackTimeSource.getPosition());
+        }
+    }
+
+    private void updatePlaybackPosition(long frameTimeNanos) {
+        double reportedPosition = playbackTimeSource.getPosition();
+        if (reportedPosition != lastReportedPosition) {
+            // 새 위치가 전달된 시점을 기준으로 다시 보간
+            lastReportedPosition = reportedPosition;
+            playbackAnchorPosition = reportedPosition;
+            playbackAnchorTimeNanos = frameTimeNanos;
+        }
+
+        double elapsedSeconds = (frameTimeNanos - playbackAnchorTimeNanos) / 1000000000d;
+        setPlaybackPosition(playbackAnchorPosition + elapsedSeconds * playbackTimeSource.getPositionPerSecond());
+    }
+
+    /**
+     * 재생 위치를 반영, 화면상의 위치가 1 pixel 이상 바뀐 경우에만 다시 그림
+     */
+    private void setPlaybackPosition(double position) {
+        if (Thumb.PATH.equals(pressedThumb) || isPathFlinging || absoluteMaxValuePrim == absoluteMinValuePrim) {
+            // 사용자가 Play Path를 움직이는 중
+            return;
+        }
+
+        setValueTicks(Thumb.PATH, timeline.valueToTicks(position));
+    }
+
+    /**
+     * Frame들을 하나의 Bitmap으로 미리 합성하여 그릴지 설정
+     * 합성된 Bitmap은 Frame 또는 Layout이 변경될 때만 다시 그려지므로 재생중 onDraw 비용이 줄어듦
+     * Frame 전체 크기의 Bitmap을 하나 더 사용하므로 기본값은 false, HARDWARE 품질에서는 합성하지 않음
+     */
+    public void setFrameCompositeEnabled(boolean enabled) {
+        isFrameCompositeEnabled = enabled;
+        if (!enabled) {
+            releaseFrameComposite();
+        }
+        invalidate();
+    }
+
+    @SuppressWarnings("unused")
+    public boolean isFrameCompositeEnabled() {
+        return isFrameCompositeEnabled;
+    }
+
+    /**
+     * Frame Bitmap의 품질을 설정
+     * LOW(RGB_565)는 Frame 메모리를 절반으로 줄이며, HARDWARE(API 26 이상)는 Frame을 Heap이 아닌 GPU 메모리에 둠
+     * 지원하지 않는 경우(API 26 미만 또는 Hardware 가속이 꺼진 경우) HIGH(ARGB_8888)로 동작함
+     * setFrames로 전달된 Frame은 다음 setFrames 호출부터 적용됨
+     */
+    public void setFrameQuality(FrameQuality quality) {
+        if (quality == null || frameQuality == quality) {
+            return;
+        }
+        frameQuality = quality;
+        releaseFrameComposite();
+
+        if (frameSource != null && frames != null) {
+            // Source에서 추출된 Frame은 Cache가 가지고 있으므로 참조만 버리고 다시 추출
+            for (int index = 0; index < frames.size(); index++) {
+                frames.set(index, null);
+            }
+            fallbackFrames = null;
+            requestSourceFrames();
+        }
+        layoutRetainedFrames();
         invalidate();
     }
 
+    @SuppressWarnings("unused")
+    public FrameQuality getFrameQuality() {
+        return frameQuality;
+    }
+
+    /**
+     * 현재 설정과 기기에서 실제로 사용할 Frame Bitmap의 Config
+     */
+    private Bitmap.Config getFrameConfig() {
+        if (frameQuality == FrameQuality.LOW) {
+            return Bitmap.Config.RGB_565;
+        }
+        if (frameQuality == FrameQuality.HARDWARE) {
+            Bitmap.Config hardwareConfig = BitmapUtil.getHardwareConfig();
+            if (hardwareConfig != null && isHardwareAccelerated()) {
+                return hardwareConfig;
+            }
+        }
+        return Bitmap.Config.ARGB_8888;
+    }
+
+    /**
+     * FrameSource에서 추출된 Frame을 Disk Cache(FrameDiskCache)에 저장하여 Process가 종료된 후에도 재사용할지 설정
+     */
+    public void setFrameDiskCacheEnabled(boolean enabled) {
+        isFrameDiskCacheEnabled = enabled;
+    }
+
+    @SuppressWarnings("unused")
+    public boolean isFrameDiskCacheEnabled() {
+        return isFrameDiskCacheEnabled;
+    }
+
     public void setSlowMotionVideo(boolean slowMotionVideo) {
         isSlowMotionVideo = slowMotionVideo;
     }
@@ -986,14 +2855,44 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
     }
 
     public void setOnFrameRangeSeekBarChangeListener(OnFrameRangeSeekBarChangeListener listener) {
+        setOnFrameRangeSeekBarChangeListener(listener, null);
+    }
+
+    /**
+     * Listener를 executor에서 호출하도록 등록, Touch 처리는 Listener의 처리를 기다리지 않음
+     * 값은 변경 시점의 값이 복사되어 전달되며, 아직 전달되지 않은 같은 종류의 값 변경은 최신 값으로 교체됨
+     * Listener에서 FrameRangeSeekBar의 함수를 호출하지 말고 전달된 값을 사용해야 함
+     *
+     * @param executor null인 경우 Main Thread에서 바로 호출
+     */
+    @SuppressWarnings("unchecked")
+    public void setOnFrameRangeSeekBarChangeListener(OnFrameRangeSeekBarChangeListener listener, Executor executor) {
+        setOnFrameRangeSeekBarPrimitiveChangeListener(listener != null ? new GenericListenerAdapter(listener) : null, executor);
+    }
+
+    /**
+     * 값을 Boxing 없이 double로 전달 받는 Listener 등록
+     */
+    public void setOnFrameRangeSeekBarPrimitiveChangeListener(OnFrameRangeSeekBarPrimitiveChangeListener listener) {
+        setOnFrameRangeSeekBarPrimitiveChangeListener(listener, null);
+    }
+
+    /**
+     * @param executor null인 경우 Main Thread에서 바로 호출
+     * @see #setOnFrameRangeSeekBarChangeListener(OnFrameRangeSeekBarChangeListener, Executor)
+     */
+    public void setOnFrameRangeSeekBarPrimitiveChangeListener(OnFrameRangeSeekBarPrimitiveChangeListener listener, Executor executor) {
+        if (listenerDispatcher != null) {
+            listenerDispatcher.clear();
+        }
         this.listener = listener;
+        this.listenerDispatcher = executor != null ? new ConflatingDispatcher(executor) : null;
     }
 
 
     public void setProgress(T progress) {
         if (isPlaying) {
-            setNormalizedValue(valueToNormalized(progress));
-            invalidate();
+            setValueTicks(Thumb.PATH, timeline.valueToTicks(progress));
         }
     }
 
@@ -1014,4 +2913,62 @@ public class FrameRangeSeekBar<T extends Number> extends AbstractSeekBar {
 
         void onFrameRangeSeekChanged(FrameRangeSeekBar<T> bar, T value);
     }
+
+    /**
+     * OnFrameRangeSeekBarChangeListener와 같은 Callback을 Boxing 없이 double 값으로 전달
+     * Long Type 범위에서는 값이 정수이므로 long으로 변환해서 사용
+     */
+    public interface OnFrameRangeSeekBarPrimitiveChangeListener {
+
+        void onStartTrackingTouch(FrameRangeSeekBar seekBar);
+
+        void onStopTrackingTouch(FrameRangeSeekBar seekBar);
+
+        void onFrameRangeSeekBarValuesChanged(FrameRangeSeekBar bar, double minValue, double maxValue);
+
+        void onFrameRangeSeekBarSlowValuesChanged(FrameRangeSeekBar bar, double minValue, double maxValue);
+
+        void onFrameRangeSeekChanged(FrameRangeSeekBar bar, double value);
+    }
+
+    /**
+     * Generic Listener를 Primitive Listener로 변환, 값은 Listener를 호출할때만 T로 Boxing 됨
+     */
+    private class GenericListenerAdapter implements OnFrameRangeSeekBarPrimitiveChangeListener {
+        private final OnFrameRangeSeekBarChangeListener<T> listener;
+
+        GenericListenerAdapter(OnFrameRangeSeekBarChangeListener<T> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onStartTrackingTouch(FrameRangeSeekBar seekBar) {
+            listener.onStartTrackingTouch(seekBar);
+        }
+
+        @Override
+        public void onStopTrackingTouch(FrameRangeSeekBar seekBar) {
+            listener.onStopTrackingTouch(seekBar);
+        }
+
+        @Override
+        public void onFrameRangeSeekBarValuesChanged(FrameRangeSeekBar bar, double minValue, double maxValue) {
+            listener.onFrameRangeSeekBarValuesChanged(FrameRangeSeekBar.this, toValue(minValue), toValue(maxValue));
+        }
+
+        @Override
+        public void onFrameRangeSeekBarSlowValuesChanged(FrameRangeSeekBar bar, double minValue, double maxValue) {
+            listener.onFrameRangeSeekBarSlowValuesChanged(FrameRangeSeekBar.this, toValue(minValue), toValue(maxValue));
+        }
+
+        @Override
+        public void onFrameRangeSeekChanged(FrameRangeSeekBar bar, double value) {
+            listener.onFrameRangeSeekChanged(FrameRangeSeekBar.this, toValue(value));
+        }
+
+        @SuppressWarnings("unchecked")
+        private T toValue(double value) {
+            return (T) numberType.toNumber(value);
+        }
+    }
 }
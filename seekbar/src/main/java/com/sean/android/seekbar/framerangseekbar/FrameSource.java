@@ -0,0 +1,108 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.net.Uri;
+
+import java.io.FileDescriptor;
+import java.util.List;
+
+/**
+ * FrameRangeSeekBar의 Frame 이미지를 제공하는 Source
+ * Frame 추출은 FrameExtractor의 Worker Thread에서 호출되므로 구현체는 Thread-safe 해야함
+ */
+public abstract class FrameSource {
+
+    /**
+     * 로컬 동영상 파일을 Frame Source로 사용
+     *
+     * @param path 동영상 파일 경로
+     */
+    public static FrameSource fromFile(String path) {
+        return new VideoFrameSource(path);
+    }
+
+    /**
+     * Content Uri 형태의 동영상을 Frame Source로 사용
+     * Content Uri는 내용이 바뀌어도 Cache의 Key가 그대로이므로, 같은 Uri의 내용이 바뀔 수 있다면 Disk Cache를 끄거나 새 Uri를 사용해야 함
+     *
+     * @param context Uri 접근에 사용할 Context
+     * @param uri     동영상 Uri
+     */
+    public static FrameSource fromUri(Context context, Uri uri) {
+        return new VideoFrameSource(context.getApplicationContext(), uri);
+    }
+
+    /**
+     * FileDescriptor로 열린 동영상을 Frame Source로 사용
+     * FileDescriptor는 Source가 release 될 때까지 열려 있어야 함
+     *
+     * @param id     Source를 구분할 고유 값, Cache의 Key로 사용되므로 같은 동영상은 항상 같은 값이어야 하고
+     *               내용이 바뀌면 다른 값이어야 함(Disk Cache는 Process가 종료된 뒤에도 남아 있음)
+     * @param fd     동영상 FileDescriptor
+     * @param offset 동영상 데이터의 시작 위치
+     * @param length 동영상 데이터의 길이
+     */
+    public static FrameSource fromFileDescriptor(String id, FileDescriptor fd, long offset, long length) {
+        return new VideoFrameSource(id, fd, offset, length);
+    }
+
+    /**
+     * Encode된 이미지(JPEG, PNG 등)의 목록을 Frame Source로 사용
+     * 이미지는 Slot 크기에 맞게 inSampleSize를 적용하여 Decode 되므로 원본 크기로 메모리에 올라가지 않음
+     *
+     * @param id           Source를 구분할 고유 값, Cache의 Key로 사용되므로 내용이 바뀌면 다른 값이어야 함
+     * @param images       Encode된 이미지 데이터 목록
+     * @param timestampsUs 각 이미지의 시간(us), 오름차순
+     * @param durationUs   Source의 전체 길이(us)
+     */
+    public static FrameSource fromEncodedImages(String id, List<byte[]> images, long[] timestampsUs, long durationUs) {
+        return new ImageFrameSource(id, images, null, timestampsUs, durationUs);
+    }
+
+    /**
+     * 이미지 파일의 목록을 Frame Source로 사용
+     *
+     * @param id           Source를 구분할 고유 값, Cache의 Key로 사용되므로 내용이 바뀌면 다른 값이어야 함
+     * @param paths        이미지 파일 경로 목록
+     * @param timestampsUs 각 이미지의 시간(us), 오름차순
+     * @param durationUs   Source의 전체 길이(us)
+     */
+    public static FrameSource fromImageFiles(String id, List<String> paths, long[] timestampsUs, long durationUs) {
+        return new ImageFrameSource(id, null, paths, timestampsUs, durationUs);
+    }
+
+    /**
+     * 같은 Source인지 구분하기 위한 ID 값
+     */
+    public abstract String getId();
+
+    /**
+     * Source의 전체 길이(us), Worker Thread에서 호출됨
+     */
+    public abstract long getDurationUs();
+
+    /**
+     * 특정 시간의 Frame 이미지를 추출, Worker Thread에서 호출됨
+     *
+     * @param timeUs 추출할 Frame의 시간(us)
+     * @return 추출된 Frame 이미지, 실패한 경우 null
+     */
+    public abstract Bitmap getFrameAtTime(long timeUs);
+
+    /**
+     * 특정 시간의 Frame 이미지를 Slot 크기(width x height)에 가깝게 추출, Worker Thread에서 호출됨
+     * 원본 크기로 Decode한 뒤 줄이지 않도록 가능한 경우 Decode 단계에서 크기를 줄임
+     * 결과가 정확히 width x height가 아닐 수 있으며, 호출하는 쪽에서 Slot 크기에 맞게 다시 그림
+     *
+     * @return 추출된 Frame 이미지, 실패한 경우 null
+     */
+    public Bitmap getFrameAtTime(long timeUs, int width, int height) {
+        return getFrameAtTime(timeUs);
+    }
+
+    /**
+     * Source가 사용하는 리소스를 해제
+     */
+    public abstract void release();
+}
@@ -0,0 +1,117 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+
+import com.sean.android.seekbar.util.BitmapPool;
+import com.sean.android.seekbar.util.BitmapUtil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encode된 이미지 목록에서 Frame을 제공하는 FrameSource
+ * 요청된 시간 이전의 가장 가까운 이미지를 Slot 크기에 맞게 inSampleSize를 적용하여 Decode 함
+ */
+class ImageFrameSource extends FrameSource {
+
+    private final String id;
+    private final List<byte[]> images;
+    private final List<String> paths;
+    private final long[] timestampsUs;
+    private final long durationUs;
+
+    private final BitmapPool bitmapPool = BitmapPool.getInstance();
+
+    ImageFrameSource(String id, List<byte[]> images, List<String> paths, long[] timestampsUs, long durationUs) {
+        this.id = id;
+        this.images = images;
+        this.paths = paths;
+        this.timestampsUs = timestampsUs;
+        this.durationUs = durationUs;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getDurationUs() {
+        return durationUs;
+    }
+
+    @Override
+    public Bitmap getFrameAtTime(long timeUs) {
+        return getFrameAtTime(timeUs, 0, 0);
+    }
+
+    @Override
+    public Bitmap getFrameAtTime(long timeUs, int width, int height) {
+        int index = getImageIndex(timeUs);
+        if (index < 0) {
+            return null;
+        }
+
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        decode(index, options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = BitmapUtil.calculateInSampleSize(options.outWidth, options.outHeight, width, height);
+        if (options.inSampleSize == 1 || Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            // KITKAT 미만에서는 inSampleSize가 1인 경우에만 inBitmap을 사용할 수 있음
+            bitmapPool.prepareOptions(options, options.outWidth / options.inSampleSize, options.outHeight / options.inSampleSize, Bitmap.Config.ARGB_8888);
+        } else {
+            options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+        }
+
+        Bitmap bitmap;
+        try {
+            bitmap = decode(index, options);
+        } catch (IllegalArgumentException e) {
+            // inBitmap으로 재사용할 수 없는 경우 새로 Decode
+            bitmapPool.put(options.inBitmap);
+            options.inBitmap = null;
+            bitmap = decode(index, options);
+        }
+
+        if (bitmap == null) {
+            bitmapPool.put(options.inBitmap);
+        }
+        return bitmap;
+    }
+
+    @Override
+    public void release() {
+        // 이미지 데이터는 호출한 쪽에서 관리하므로 해제할 리소스가 없음
+    }
+
+    /**
+     * timeUs 이전의 가장 가까운 이미지 index, 첫 이미지보다 이전인 경우 첫 이미지를 사용
+     */
+    private int getImageIndex(long timeUs) {
+        int count = images != null ? images.size() : paths.size();
+        if (count == 0) {
+            return -1;
+        }
+
+        int index = Arrays.binarySearch(timestampsUs, 0, Math.min(count, timestampsUs.length), timeUs);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return Math.max(0, Math.min(count - 1, index));
+    }
+
+    private Bitmap decode(int index, BitmapFactory.Options options) {
+        if (images != null) {
+            byte[] data = images.get(index);
+            return BitmapFactory.decodeByteArray(data, 0, data.length, options);
+        }
+        return BitmapFactory.decodeFile(paths.get(index), options);
+    }
+}
@@ -0,0 +1,183 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import android.media.MediaExtractor;
+import android.media.MediaFormat;
+import android.os.Build;
+import android.support.annotation.RequiresApi;
+import android.support.v4.util.LruCache;
+
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 동영상의 Keyframe(Sync Sample) 시간 목록
+ * MediaExtractor로 동영상 Track의 Sync Sample 시간만 읽어서 정렬된 long 배열로 저장하며, Source ID 별로 Process 전체에서 Cache 됨
+ * Keyframe 위치에서 자르면 재Encode 없이 Stream Copy로 자를 수 있고, Keyframe Seek은 정확한 Seek보다 훨씬 빠름
+ */
+public final class KeyframeIndex {
+
+    private static final int MAX_CACHE_COUNT = 16;
+    private static final String VIDEO_MIME_PREFIX = "video/";
+
+    private static final LruCache<String, KeyframeIndex> CACHE = new LruCache<>(MAX_CACHE_COUNT);
+
+    private final long[] timesUs;
+
+    KeyframeIndex(long[] timesUs) {
+        this.timesUs = timesUs;
+        Arrays.sort(this.timesUs);
+    }
+
+    /**
+     * 로컬 동영상 파일의 Keyframe 목록을 만듦, 동영상을 읽으므로 Worker Thread에서 호출해야 함
+     * 같은 경로의 같은 파일(크기, 수정 시간)은 Cache 된 목록을 return
+     *
+     * @return Keyframe 목록, 동영상을 읽을 수 없거나 API 16 미만인 경우 null
+     */
+    public static KeyframeIndex fromFile(String path) {
+        return load(VideoFrameSource.fileSourceId(path), path, null, 0, 0);
+    }
+
+    /**
+     * FileDescriptor로 열린 동영상의 Keyframe 목록을 만듦, 동영상을 읽으므로 Worker Thread에서 호출해야 함
+     *
+     * @param id Source를 구분할 고유 값, 같은 동영상은 항상 같은 값이어야 하고 내용이 바뀌면 다른 값이어야 함
+     * @return Keyframe 목록, 동영상을 읽을 수 없거나 API 16 미만인 경우 null
+     */
+    public static KeyframeIndex fromFileDescriptor(String id, FileDescriptor fd, long offset, long length) {
+        return load(id, null, fd, offset, length);
+    }
+
+    /**
+     * @return Cache 된 Keyframe 목록, 없는 경우 null
+     */
+    public static KeyframeIndex getCached(String id) {
+        return CACHE.get(id);
+    }
+
+    public static void evictAll() {
+        CACHE.evictAll();
+    }
+
+    private static KeyframeIndex load(String id, String path, FileDescriptor fd, long offset, long length) {
+        KeyframeIndex index = CACHE.get(id);
+        if (index != null || Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN) {
+            return index;
+        }
+
+        long[] timesUs = SyncSampleReader.read(path, fd, offset, length);
+        if (timesUs == null) {
+            return null;
+        }
+        index = new KeyframeIndex(timesUs);
+        CACHE.put(id, index);
+        return index;
+    }
+
+    public int size() {
+        return timesUs.length;
+    }
+
+    public long getTimeUs(int index) {
+        return timesUs[index];
+    }
+
+    /**
+     * @return timeUs와 가장 가까운 Keyframe 시간, 목록이 비어있는 경우 timeUs
+     */
+    public long getNearestTimeUs(long timeUs) {
+        if (timesUs.length == 0) {
+            return timeUs;
+        }
+        int index = Arrays.binarySearch(timesUs, timeUs);
+        if (index >= 0) {
+            return timesUs[index];
+        }
+        int insertion = -index - 1;
+        if (insertion == 0) {
+            return timesUs[0];
+        }
+        if (insertion == timesUs.length) {
+            return timesUs[timesUs.length - 1];
+        }
+        long before = timesUs[insertion - 1];
+        long after = timesUs[insertion];
+        return timeUs - before <= after - timeUs ? before : after;
+    }
+
+    /**
+     * API 16 미만에서 MediaExtractor 참조로 인한 Class 검증 오류가 나지 않도록 별도의 Class로 분리
+     */
+    @RequiresApi(api = Build.VERSION_CODES.JELLY_BEAN)
+    private static final class SyncSampleReader {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        static long[] read(String path, FileDescriptor fd, long offset, long length) {
+            MediaExtractor extractor = new MediaExtractor();
+            try {
+                if (path != null) {
+                    extractor.setDataSource(path);
+                } else {
+                    extractor.setDataSource(fd, offset, length);
+                }
+
+                int track = findVideoTrack(extractor);
+                if (track < 0) {
+                    return null;
+                }
+                extractor.selectTrack(track);
+                return readSyncSampleTimes(extractor);
+            } catch (IOException | RuntimeException e) {
+                e.printStackTrace();
+                return null;
+            } finally {
+                extractor.release();
+            }
+        }
+
+        private static int findVideoTrack(MediaExtractor extractor) {
+            for (int i = 0; i < extractor.getTrackCount(); i++) {
+                String mime = extractor.getTrackFormat(i).getString(MediaFormat.KEY_MIME);
+                if (mime != null && mime.startsWith(VIDEO_MIME_PREFIX)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 다음 Sync Sample로 바로 Seek하여 Sample Data를 읽지 않고 Keyframe만 따라감
+         * Seek이 앞으로 진행하지 않는 Extractor에서는 Sample 단위로 advance하여 다음 Sync Sample을 찾음
+         */
+        private static long[] readSyncSampleTimes(MediaExtractor extractor) {
+            long[] times = new long[INITIAL_CAPACITY];
+            int count = 0;
+            long lastTimeUs = -1;
+
+            extractor.seekTo(0, MediaExtractor.SEEK_TO_PREVIOUS_SYNC);
+            while (true) {
+                long timeUs = extractor.getSampleTime();
+                while (timeUs >= 0 && (timeUs <= lastTimeUs || (extractor.getSampleFlags() & MediaExtractor.SAMPLE_FLAG_SYNC) == 0)) {
+                    if (!extractor.advance()) {
+                        timeUs = -1;
+                        break;
+                    }
+                    timeUs = extractor.getSampleTime();
+                }
+                if (timeUs < 0) {
+                    break;
+                }
+
+                if (count == times.length) {
+                    times = Arrays.copyOf(times, count * 2);
+                }
+                times[count++] = timeUs;
+                lastTimeUs = timeUs;
+                extractor.seekTo(timeUs + 1, MediaExtractor.SEEK_TO_NEXT_SYNC);
+            }
+            return Arrays.copyOf(times, count);
+        }
+    }
+}
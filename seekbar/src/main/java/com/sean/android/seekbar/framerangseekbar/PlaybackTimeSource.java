@@ -0,0 +1,25 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+/**
+ * FrameRangeSeekBar의 재생 위치를 제공하는 Source
+ * FrameRangeSeekBar는 매 vsync마다 위치를 읽으며, 위치가 갱신되지 않은 동안에는 재생 속도로 위치를 보간함
+ * 모든 Method는 Main Thread에서 호출됨
+ */
+public interface PlaybackTimeSource {
+
+    /**
+     * 현재 재생 위치, FrameRangeSeekBar의 값과 같은 단위
+     */
+    double getPosition();
+
+    /**
+     * 재생 중 1초당 증가하는 위치 값 (예: 값의 단위가 ms이고 1배속인 경우 1000, 2배속인 경우 2000)
+     */
+    double getPositionPerSecond();
+
+    /**
+     * 재생중인지 여부, false인 경우 FrameRangeSeekBar는 vsync Callback을 중단함
+     * 다시 재생되면 FrameRangeSeekBar.notifyPlaybackStateChanged()를 호출해야 함
+     */
+    boolean isPlaying();
+}
@@ -0,0 +1,66 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+/**
+ * Scrubbing 중 최근 Touch 위치들로 속도를 구해 다음 Frame의 위치를 예측하는 Class
+ * MotionEvent에 묶여서 전달된 이전 위치(Historical)까지 모두 사용하며, 고정 크기 배열만 사용하여 할당이 없음
+ */
+class ScrubPredictor {
+
+    private static final int MAX_SAMPLE_COUNT = 16;
+    private static final long VELOCITY_WINDOW_MS = 50; // 이보다 오래된 위치는 속도 계산에 사용하지 않음
+
+    private final float[] sampleX = new float[MAX_SAMPLE_COUNT];
+    private final long[] sampleTimeMs = new long[MAX_SAMPLE_COUNT];
+    private int sampleCount = 0;
+    private int newestIndex = -1;
+
+    void reset() {
+        sampleCount = 0;
+        newestIndex = -1;
+    }
+
+    boolean isEmpty() {
+        return sampleCount == 0;
+    }
+
+    void addSample(float x, long timeMs) {
+        newestIndex = (newestIndex + 1) % MAX_SAMPLE_COUNT;
+        sampleX[newestIndex] = x;
+        sampleTimeMs[newestIndex] = timeMs;
+        sampleCount = Math.min(sampleCount + 1, MAX_SAMPLE_COUNT);
+    }
+
+    /**
+     * @return 최근 VELOCITY_WINDOW_MS 동안의 평균 속도 (pixel / ms)
+     */
+    float getVelocity() {
+        if (sampleCount < 2) {
+            return 0;
+        }
+
+        long newestTime = sampleTimeMs[newestIndex];
+        int oldestIndex = newestIndex;
+        for (int i = 1; i < sampleCount; i++) {
+            int index = (newestIndex - i + MAX_SAMPLE_COUNT) % MAX_SAMPLE_COUNT;
+            if (newestTime - sampleTimeMs[index] > VELOCITY_WINDOW_MS) {
+                break;
+            }
+            oldestIndex = index;
+        }
+
+        long duration = newestTime - sampleTimeMs[oldestIndex];
+        if (duration <= 0) {
+            return 0;
+        }
+        return (sampleX[newestIndex] - sampleX[oldestIndex]) / duration;
+    }
+
+    /**
+     * @param aheadMs     예측할 시간
+     * @param maxDistance 예측으로 이동할 수 있는 최대 거리, 급격한 방향 전환시 Thumb이 튀지 않도록 제한
+     */
+    float predict(float x, long aheadMs, float maxDistance) {
+        float distance = getVelocity() * aheadMs;
+        return x + Math.max(-maxDistance, Math.min(maxDistance, distance));
+    }
+}
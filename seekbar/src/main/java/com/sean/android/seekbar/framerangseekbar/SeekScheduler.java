@@ -0,0 +1,190 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+/**
+ * FrameRangeSeekBar와 Player 사이에서 Seek 요청을 정리하는 Class
+ * Player에는 항상 하나의 Seek만 요청하고, 진행중에 들어온 요청은 가장 마지막 위치 하나만 남겨두었다가 완료시 요청함
+ * Drag 중에는 Keyframe Seek으로 빠르게 화면을 갱신하고, 손을 떼면 마지막 위치로 정확한 Seek을 한번 요청함
+ * <p>
+ * FrameRangeSeekBar의 Listener로 바로 지정할 수 있으며, 받은 Event는 setOnFrameRangeSeekBarPrimitiveChangeListener로 지정한 Listener에 그대로 전달함
+ */
+public class SeekScheduler implements FrameRangeSeekBar.OnFrameRangeSeekBarPrimitiveChangeListener {
+
+    private final SeekablePlayer player;
+    private FrameRangeSeekBar.OnFrameRangeSeekBarPrimitiveChangeListener listener;
+
+    private boolean isTracking = false;
+    private boolean isSeeking = false; // Player에 요청한 Seek이 진행중인지 여부
+    private boolean hasPendingSeek = false;
+    private double pendingPosition;
+    private SeekablePlayer.SeekMode pendingMode;
+
+    // 마지막으로 요청(또는 대기)된 위치, 같은 위치를 반복해서 요청하지 않도록 함
+    private double lastTargetPosition = Double.NaN;
+    private SeekablePlayer.SeekMode lastTargetMode;
+
+    // onFrameRangeSeekBarValuesChanged에서 최소/최대 중 어느 값이 바뀌었는지 확인하기 위한 값
+    private double lastMinValue = Double.NaN;
+    private double lastMaxValue = Double.NaN;
+    private double lastThumbValue = Double.NaN;
+
+    // Keyframe Seek 위치를 실제로 이동할 Keyframe으로 바꾸어 같은 Keyframe으로의 Seek을 반복하지 않도록 함
+    private KeyframeIndex keyframeIndex;
+    private double keyframeValuePerSecond;
+
+    public SeekScheduler(SeekablePlayer player) {
+        this.player = player;
+    }
+
+    public void setOnFrameRangeSeekBarPrimitiveChangeListener(FrameRangeSeekBar.OnFrameRangeSeekBarPrimitiveChangeListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Keyframe Seek 요청을 가장 가까운 Keyframe 위치로 바꾸어, 같은 Keyframe 구간 안에서의 Drag는 Player에 다시 요청하지 않도록 함
+     *
+     * @param index          Keyframe 목록, null인 경우 요청된 위치를 그대로 전달
+     * @param valuePerSecond 1초에 해당하는 위치 값 (예: 위치의 단위가 ms인 경우 1000)
+     */
+    public synchronized void setKeyframeIndex(KeyframeIndex index, double valuePerSecond) {
+        keyframeIndex = valuePerSecond > 0 ? index : null;
+        keyframeValuePerSecond = valuePerSecond;
+    }
+
+    /**
+     * Drag 시작, 이후 요청되는 위치는 Keyframe Seek으로 처리됨
+     */
+    public synchronized void startTracking() {
+        isTracking = true;
+    }
+
+    /**
+     * Drag 종료, 이후 요청되는 위치는 정확한 Seek으로 처리됨
+     * FrameRangeSeekBar는 onStopTrackingTouch 다음에 마지막 값을 전달하므로 그 값으로 정확한 Seek을 한번 요청하게 됨
+     */
+    public synchronized void stopTracking() {
+        isTracking = false;
+    }
+
+    /**
+     * Drag 중인 경우 Keyframe Seek, 아닌 경우 정확한 Seek을 요청
+     */
+    public void requestSeek(double position) {
+        SeekablePlayer.SeekMode mode;
+        synchronized (this) {
+            mode = isTracking ? SeekablePlayer.SeekMode.KEYFRAME : SeekablePlayer.SeekMode.EXACT;
+        }
+        requestSeek(position, mode);
+    }
+
+    public void requestSeek(double position, SeekablePlayer.SeekMode mode) {
+        synchronized (this) {
+            if (mode == SeekablePlayer.SeekMode.KEYFRAME && keyframeIndex != null) {
+                long keyframeUs = keyframeIndex.getNearestTimeUs(Math.round(position * 1000000d / keyframeValuePerSecond));
+                position = keyframeUs * keyframeValuePerSecond / 1000000d;
+            }
+            if (position == lastTargetPosition && mode == lastTargetMode) {
+                return;
+            }
+            lastTargetPosition = position;
+            lastTargetMode = mode;
+
+            if (isSeeking) {
+                // 진행중인 Seek이 끝나면 가장 마지막 위치만 요청
+                hasPendingSeek = true;
+                pendingPosition = position;
+                pendingMode = mode;
+                return;
+            }
+            isSeeking = true;
+        }
+        player.seekTo(position, mode);
+    }
+
+    /**
+     * Player의 Seek이 끝난 경우 호출, 대기중인 요청이 있으면 바로 요청함
+     */
+    public void onSeekComplete() {
+        double position;
+        SeekablePlayer.SeekMode mode;
+        synchronized (this) {
+            if (!hasPendingSeek) {
+                isSeeking = false;
+                return;
+            }
+            hasPendingSeek = false;
+            position = pendingPosition;
+            mode = pendingMode;
+        }
+        player.seekTo(position, mode);
+    }
+
+    /**
+     * 대기중인 요청을 버리고 처음 상태로 되돌림, Player를 바꾸거나 Source가 바뀐 경우 호출
+     */
+    public synchronized void reset() {
+        isTracking = false;
+        isSeeking = false;
+        hasPendingSeek = false;
+        lastTargetPosition = Double.NaN;
+        lastTargetMode = null;
+        lastMinValue = Double.NaN;
+        lastMaxValue = Double.NaN;
+        lastThumbValue = Double.NaN;
+    }
+
+    @Override
+    public void onStartTrackingTouch(FrameRangeSeekBar seekBar) {
+        startTracking();
+        if (listener != null) {
+            listener.onStartTrackingTouch(seekBar);
+        }
+    }
+
+    @Override
+    public void onStopTrackingTouch(FrameRangeSeekBar seekBar) {
+        stopTracking();
+        if (listener != null) {
+            listener.onStopTrackingTouch(seekBar);
+        }
+    }
+
+    @Override
+    public void onFrameRangeSeekBarValuesChanged(FrameRangeSeekBar bar, double minValue, double maxValue) {
+        // 바뀐 Thumb의 위치로 Seek하여 잘릴 위치를 보여줌
+        double target;
+        synchronized (this) {
+            if (minValue != lastMinValue) {
+                target = lastThumbValue = minValue;
+            } else if (maxValue != lastMaxValue) {
+                target = lastThumbValue = maxValue;
+            } else {
+                // Drag 중 마지막으로 전달된 값에서 멈춘 경우 그 위치를 정확한 Seek으로 다시 요청
+                target = isTracking ? Double.NaN : lastThumbValue;
+            }
+            lastMinValue = minValue;
+            lastMaxValue = maxValue;
+        }
+        if (!Double.isNaN(target)) {
+            requestSeek(target);
+        }
+
+        if (listener != null) {
+            listener.onFrameRangeSeekBarValuesChanged(bar, minValue, maxValue);
+        }
+    }
+
+    @Override
+    public void onFrameRangeSeekBarSlowValuesChanged(FrameRangeSeekBar bar, double minValue, double maxValue) {
+        if (listener != null) {
+            listener.onFrameRangeSeekBarSlowValuesChanged(bar, minValue, maxValue);
+        }
+    }
+
+    @Override
+    public void onFrameRangeSeekChanged(FrameRangeSeekBar bar, double value) {
+        requestSeek(value);
+        if (listener != null) {
+            listener.onFrameRangeSeekChanged(bar, value);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+/**
+ * SeekScheduler가 Seek을 요청하는 Player
+ * Seek이 끝나면(실패한 경우 포함) 반드시 SeekScheduler.onSeekComplete()를 호출해야 다음 Seek이 요청됨
+ */
+public interface SeekablePlayer {
+
+    enum SeekMode {
+        /**
+         * 가까운 Keyframe(Sync Frame)으로 빠르게 Seek, Drag 중에 사용
+         * 예: MediaPlayer.SEEK_CLOSEST_SYNC
+         */
+        KEYFRAME,
+        /**
+         * 요청한 위치로 정확하게 Seek, 손을 뗀 경우에 한번 사용
+         * 예: MediaPlayer.SEEK_CLOSEST
+         */
+        EXACT
+    }
+
+    /**
+     * @param position FrameRangeSeekBar의 값과 같은 단위의 위치
+     */
+    void seekTo(double position, SeekMode mode);
+}
@@ -0,0 +1,147 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.support.v4.util.LruCache;
+
+/**
+ * FrameSource에서 추출된 Frame을 Process 전체에서 공유하는 메모리 Cache
+ * (Source ID, 시간, 크기, Config) 단위로 저장하며 전체 byte 크기로 제한됨
+ * FrameExtractor의 Source Tier는 별도의 크기 제한을 가진 Cache에 저장하여 화면에 노출중인 Frame을 밀어내지 않도록 함
+ * Cache에 들어간 Bitmap은 여러 View에서 공유되므로 recycle 하거나 BitmapPool에 반환하면 안됨
+ */
+public class ThumbnailCache {
+
+    private static final int DEFAULT_MAX_SIZE_DIVIDER = 8; // 최대 Heap 크기의 1/8을 Cache로 사용
+    private static final int TIER_SIZE_DIVIDER = 2; // Source Tier Cache는 Frame Cache 크기의 1/2로 제한
+    private static final int MAX_DURATION_COUNT = 64;
+
+    private static ThumbnailCache instance;
+
+    private final LruCache<Key, Bitmap> cache;
+    private final LruCache<Key, Bitmap> tierCache;
+    private final LruCache<String, Long> durations = new LruCache<>(MAX_DURATION_COUNT);
+
+    public static synchronized ThumbnailCache getInstance() {
+        if (instance == null) {
+            instance = new ThumbnailCache((int) (Runtime.getRuntime().maxMemory() / DEFAULT_MAX_SIZE_DIVIDER));
+        }
+        return instance;
+    }
+
+    public ThumbnailCache(int maxSize) {
+        cache = createBitmapCache(maxSize);
+        tierCache = createBitmapCache(Math.max(1, maxSize / TIER_SIZE_DIVIDER));
+    }
+
+    private static LruCache<Key, Bitmap> createBitmapCache(int maxSize) {
+        return new LruCache<Key, Bitmap>(maxSize) {
+            @Override
+            protected int sizeOf(Key key, Bitmap value) {
+                return getByteCount(value);
+            }
+        };
+    }
+
+    public Bitmap get(String sourceId, long timeUs, int width, int height, Bitmap.Config config) {
+        return cache.get(new Key(sourceId, timeUs, width, height, config));
+    }
+
+    public void put(String sourceId, long timeUs, Bitmap bitmap) {
+        cache.put(new Key(sourceId, timeUs, bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig()), bitmap);
+    }
+
+    public Bitmap getTier(String sourceId, long timeUs, int width, int height, Bitmap.Config config) {
+        return tierCache.get(new Key(sourceId, timeUs, width, height, config));
+    }
+
+    /**
+     * FrameExtractor가 Source에서 Decode한 Tier를 저장, Slot 크기가 바뀐 경우 Source를 다시 Decode하지 않고 Tier에서 줄여서 사용함
+     */
+    public void putTier(String sourceId, long timeUs, Bitmap bitmap) {
+        tierCache.put(new Key(sourceId, timeUs, bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig()), bitmap);
+    }
+
+    /**
+     * Source의 길이를 기억해두어 다음에는 Source를 열지 않고도 Frame 시간을 계산할 수 있도록 함
+     */
+    public void putDurationUs(String sourceId, long durationUs) {
+        durations.put(sourceId, durationUs);
+    }
+
+    /**
+     * @return 기억된 Source의 길이(us), 없는 경우 -1
+     */
+    public long getDurationUs(String sourceId) {
+        Long durationUs = durations.get(sourceId);
+        return durationUs == null ? -1 : durationUs;
+    }
+
+    public void evictAll() {
+        cache.evictAll();
+        tierCache.evictAll();
+        durations.evictAll();
+    }
+
+    public int getSize() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return cache.maxSize();
+    }
+
+    public int getHitCount() {
+        return cache.hitCount();
+    }
+
+    public int getMissCount() {
+        return cache.missCount();
+    }
+
+    private static int getByteCount(Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB_MR1) {
+            return bitmap.getByteCount();
+        }
+        return bitmap.getRowBytes() * bitmap.getHeight();
+    }
+
+    private static final class Key {
+        private final String sourceId;
+        private final long timeUs;
+        private final int width;
+        private final int height;
+        private final Bitmap.Config config;
+
+        Key(String sourceId, long timeUs, int width, int height, Bitmap.Config config) {
+            this.sourceId = sourceId;
+            this.timeUs = timeUs;
+            this.width = width;
+            this.height = height;
+            this.config = config;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return timeUs == key.timeUs && width == key.width && height == key.height
+                    && config == key.config && sourceId.equals(key.sourceId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = sourceId.hashCode();
+            result = 31 * result + (int) (timeUs ^ (timeUs >>> 32));
+            result = 31 * result + width;
+            result = 31 * result + height;
+            result = 31 * result + (config != null ? config.hashCode() : 0);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.media.MediaMetadataRetriever;
+import android.net.Uri;
+import android.os.Build;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MediaMetadataRetriever를 이용하여 동영상에서 Frame을 추출하는 FrameSource
+ * MediaMetadataRetriever는 Thread-safe 하지 않기 때문에 Worker Thread별로 하나씩 빌려서 사용함
+ */
+class VideoFrameSource extends FrameSource {
+
+    private static final int VERSION_CODES_O_MR1 = 27; // getScaledFrameAtTime이 추가된 버전
+
+    private static Method getScaledFrameAtTimeMethod;
+    private static boolean isScaledFrameMethodResolved = false;
+
+    private final String path;
+    private final Context context;
+    private final Uri uri;
+    private final String id;
+    private final FileDescriptor fd;
+    private final long fdOffset;
+    private final long fdLength;
+    private final String sourceId;
+
+    private final List<MediaMetadataRetriever> idleRetrievers = new ArrayList<>();
+    private boolean released = false;
+
+    private volatile long durationUs = -1;
+    private volatile int videoWidth = -1;
+    private volatile int videoHeight = -1;
+
+    VideoFrameSource(String path) {
+        this(path, null, null, null, null, 0, 0);
+    }
+
+    VideoFrameSource(Context context, Uri uri) {
+        this(null, context, uri, null, null, 0, 0);
+    }
+
+    VideoFrameSource(String id, FileDescriptor fd, long offset, long length) {
+        this(null, null, null, id, fd, offset, length);
+    }
+
+    private VideoFrameSource(String path, Context context, Uri uri, String id, FileDescriptor fd, long fdOffset, long fdLength) {
+        this.path = path;
+        this.context = context;
+        this.uri = uri;
+        this.id = id;
+        this.fd = fd;
+        this.fdOffset = fdOffset;
+        this.fdLength = fdLength;
+        this.sourceId = resolveSourceId(path, uri, id);
+    }
+
+    /**
+     * 파일 Source는 같은 경로에 다시 저장된 경우 이전 Frame이 Cache에서 나오지 않도록 크기와 수정 시간을 ID에 포함
+     * Content Uri는 내용이 바뀌었는지 알 수 없으므로 Uri 문자열을 그대로 사용
+     */
+    private static String resolveSourceId(String path, Uri uri, String id) {
+        if (path != null) {
+            return fileSourceId(path);
+        }
+        if (uri != null) {
+            if ("file".equals(uri.getScheme()) && uri.getPath() != null) {
+                return fileSourceId(uri.getPath());
+            }
+            return uri.toString();
+        }
+        return id;
+    }
+
+    /**
+     * 파일 경로에 크기와 수정 시간을 붙인 ID, 파일이 바뀌면 다른 값이 됨
+     */
+    static String fileSourceId(String path) {
+        File file = new File(path);
+        return path + "|" + file.length() + "|" + file.lastModified();
+    }
+
+    @Override
+    public String getId() {
+        return sourceId;
+    }
+
+    @Override
+    public long getDurationUs() {
+        if (durationUs < 0) {
+            MediaMetadataRetriever retriever = obtainRetriever();
+            if (retriever == null) {
+                return 0;
+            }
+            try {
+                String duration = retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_DURATION);
+                durationUs = duration == null ? 0 : Long.parseLong(duration) * 1000L;
+            } catch (NumberFormatException e) {
+                durationUs = 0;
+            } finally {
+                recycleRetriever(retriever);
+            }
+        }
+        return durationUs;
+    }
+
+    @Override
+    public Bitmap getFrameAtTime(long timeUs) {
+        MediaMetadataRetriever retriever = obtainRetriever();
+        if (retriever == null) {
+            return null;
+        }
+        try {
+            return retriever.getFrameAtTime(timeUs, MediaMetadataRetriever.OPTION_CLOSEST_SYNC);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            recycleRetriever(retriever);
+        }
+    }
+
+    /**
+     * API 27 이상에서는 getScaledFrameAtTime으로 Decode 단계에서 크기를 줄이고, 그 이하에서는 원본 크기로 추출함
+     * getScaledFrameAtTime은 비율을 유지하며 지정한 크기 안에 맞추므로, Slot을 모두 덮는 크기를 계산하여 요청
+     */
+    @Override
+    public Bitmap getFrameAtTime(long timeUs, int width, int height) {
+        Method method = getScaledFrameAtTimeMethod();
+        if (method == null || width <= 0 || height <= 0) {
+            return getFrameAtTime(timeUs);
+        }
+
+        MediaMetadataRetriever retriever = obtainRetriever();
+        if (retriever == null) {
+            return null;
+        }
+        try {
+            loadVideoSize(retriever);
+            int dstWidth = width;
+            int dstHeight = height;
+            if (videoWidth > 0 && videoHeight > 0) {
+                float scale = Math.max((float) width / videoWidth, (float) height / videoHeight);
+                if (scale >= 1f) {
+                    // 원본이 Slot보다 작은 경우 줄일 필요가 없음
+                    return retriever.getFrameAtTime(timeUs, MediaMetadataRetriever.OPTION_CLOSEST_SYNC);
+                }
+                dstWidth = (int) Math.ceil(videoWidth * scale);
+                dstHeight = (int) Math.ceil(videoHeight * scale);
+            }
+            return (Bitmap) method.invoke(retriever, timeUs, MediaMetadataRetriever.OPTION_CLOSEST_SYNC, dstWidth, dstHeight);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            recycleRetriever(retriever);
+        }
+    }
+
+    /**
+     * 회전이 적용된 동영상의 크기를 한번만 읽어둠
+     */
+    private void loadVideoSize(MediaMetadataRetriever retriever) {
+        if (videoWidth >= 0) {
+            return;
+        }
+        try {
+            int width = Integer.parseInt(retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_WIDTH));
+            int height = Integer.parseInt(retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_HEIGHT));
+            String rotation = retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_ROTATION);
+            if ("90".equals(rotation) || "270".equals(rotation)) {
+                videoHeight = width;
+                videoWidth = height;
+            } else {
+                videoHeight = height;
+                videoWidth = width;
+            }
+        } catch (NumberFormatException e) {
+            videoHeight = 0;
+            videoWidth = 0;
+        }
+    }
+
+    private static synchronized Method getScaledFrameAtTimeMethod() {
+        if (!isScaledFrameMethodResolved) {
+            isScaledFrameMethodResolved = true;
+            if (Build.VERSION.SDK_INT >= VERSION_CODES_O_MR1) {
+                try {
+                    getScaledFrameAtTimeMethod = MediaMetadataRetriever.class.getMethod("getScaledFrameAtTime", long.class, int.class, int.class, int.class);
+                } catch (NoSuchMethodException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return getScaledFrameAtTimeMethod;
+    }
+
+    @Override
+    public void release() {
+        synchronized (idleRetrievers) {
+            released = true;
+            for (MediaMetadataRetriever retriever : idleRetrievers) {
+                retriever.release();
+            }
+            idleRetrievers.clear();
+        }
+    }
+
+    private MediaMetadataRetriever obtainRetriever() {
+        synchronized (idleRetrievers) {
+            if (released) {
+                return null;
+            }
+            if (!idleRetrievers.isEmpty()) {
+                return idleRetrievers.remove(idleRetrievers.size() - 1);
+            }
+        }
+
+        MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+        try {
+            if (path != null) {
+                retriever.setDataSource(path);
+            } else if (uri != null) {
+                retriever.setDataSource(context, uri);
+            } else {
+                retriever.setDataSource(fd, fdOffset, fdLength);
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            retriever.release();
+            return null;
+        }
+        return retriever;
+    }
+
+    private void recycleRetriever(MediaMetadataRetriever retriever) {
+        synchronized (idleRetrievers) {
+            if (!released) {
+                idleRetrievers.add(retriever);
+                return;
+            }
+        }
+        // release()가 이미 호출된 경우 사용이 끝난 Retriever는 바로 해제
+        retriever.release();
+    }
+}
@@ -0,0 +1,481 @@
+package com.sean.android.seekbar.multithumbseekbar;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.support.annotation.RequiresApi;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+
+import com.sean.android.seekbar.AbstractSeekBar;
+import com.sean.android.seekbar.R;
+import com.sean.android.seekbar.SeekBarLine;
+import com.sean.android.seekbar.Thumb;
+import com.sean.android.seekbar.util.BitmapUtil;
+import com.sean.android.seekbar.util.PixelUtil;
+import com.sean.android.seekbar.util.PointerThumbMap;
+
+import java.util.Arrays;
+
+/**
+ * 여러개의 Thumb을 가지는 RangeBar (구간 Marker 등)
+ * Thumb의 값은 정렬된 long 배열로 관리하고 Thumb끼리는 서로 넘어갈 수 없음
+ * 화면 좌표는 Layout 또는 값이 바뀔때만 계산해두고, Touch한 Thumb은 이진 탐색으로 찾음
+ * 손가락마다 다른 Thumb을 잡아서 동시에 움직일 수 있음
+ */
+public class MultiThumbRangeBar extends AbstractSeekBar {
+
+    private static final long DEFAULT_MIN_VALUE = 0;
+    private static final long DEFAULT_MAX_VALUE = 100;
+    private static final float DEFAULT_LINE_WEIGHT = 2;
+    private static final int DEFAULT_COLOR = Color.LTGRAY;
+    private static final int DEFAULT_THUMB_IMAGE = R.drawable.seek_thumb_normal;
+    private static final int DEFAULT_THUMB_PRESSED = R.drawable.seek_thumb_pressed;
+    private static final int DEFAULT_SEEKBAR_WIDTH = 300;
+    private static final int DEFAULT_SEEKBAR_HEIGHT = 100;
+    private static final int DEFAULT_TOUCH_RADIUS_DP = 24;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long minValue = DEFAULT_MIN_VALUE;
+    private long maxValue = DEFAULT_MAX_VALUE;
+
+    private long[] thumbValues = new long[INITIAL_CAPACITY]; // 오름차순 정렬 상태를 유지
+    private float[] thumbScreenX = new float[INITIAL_CAPACITY]; // thumbValues의 화면 좌표 Cache
+    private int thumbCount = 0;
+
+    private float lineWeight;
+    private int lineColor;
+    private Bitmap thumbImage;
+    private Bitmap thumbImagePressed;
+    private float touchRadius;
+
+    private SeekBarLine seekBarLine;
+    private Thumb thumb; // 모든 Thumb을 위치만 바꿔가며 그림
+
+    private final PointerThumbMap pressedThumbs = new PointerThumbMap(); // Pointer ID -> Thumb index
+
+    private OnMultiThumbRangeBarChangeListener listener;
+
+    public MultiThumbRangeBar(Context context) {
+        super(context);
+        init(context, null);
+    }
+
+    public MultiThumbRangeBar(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init(context, attrs);
+    }
+
+    public MultiThumbRangeBar(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        init(context, attrs);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+    public MultiThumbRangeBar(Context context, AttributeSet attrs, int defStyleAttr, int defStyleRes) {
+        super(context, attrs, defStyleAttr, defStyleRes);
+        init(context, attrs);
+    }
+
+    private void init(Context context, AttributeSet attrs) {
+        lineWeight = DEFAULT_LINE_WEIGHT;
+        lineColor = DEFAULT_COLOR;
+
+        if (attrs != null) {
+            TypedArray typedArray = context.obtainStyledAttributes(attrs, R.styleable.MultiThumbRangeBar, 0, 0);
+            try {
+                minValue = typedArray.getInteger(R.styleable.MultiThumbRangeBar_multiThumbMinValue, (int) DEFAULT_MIN_VALUE);
+                maxValue = Math.max(minValue, typedArray.getInteger(R.styleable.MultiThumbRangeBar_multiThumbMaxValue, (int) DEFAULT_MAX_VALUE));
+                lineWeight = typedArray.getDimension(R.styleable.MultiThumbRangeBar_multiThumbBarWeight, DEFAULT_LINE_WEIGHT);
+                lineColor = typedArray.getColor(R.styleable.MultiThumbRangeBar_multiThumbBarColor, DEFAULT_COLOR);
+
+                Drawable thumbDrawable = typedArray.getDrawable(R.styleable.MultiThumbRangeBar_multiThumbImage);
+                if (thumbDrawable != null) {
+                    thumbImage = BitmapUtil.drawableToBitmap(thumbDrawable);
+                }
+
+                Drawable thumbPressedDrawable = typedArray.getDrawable(R.styleable.MultiThumbRangeBar_multiThumbImagePressed);
+                if (thumbPressedDrawable != null) {
+                    thumbImagePressed = BitmapUtil.drawableToBitmap(thumbPressedDrawable);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                typedArray.recycle();
+            }
+        }
+
+        if (thumbImage == null) {
+            thumbImage = BitmapFactory.decodeResource(getResources(), DEFAULT_THUMB_IMAGE);
+        }
+        if (thumbImagePressed == null) {
+            thumbImagePressed = BitmapFactory.decodeResource(getResources(), DEFAULT_THUMB_PRESSED);
+        }
+
+        touchRadius = Math.max(thumbImage.getWidth() / 2f, PixelUtil.dpToPx(context, DEFAULT_TOUCH_RADIUS_DP));
+    }
+
+    @Override
+    protected synchronized void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = DEFAULT_SEEKBAR_WIDTH;
+        int height = DEFAULT_SEEKBAR_HEIGHT;
+        if (thumbImage != null) {
+            height = thumbImage.getHeight();
+        }
+
+        if (View.MeasureSpec.UNSPECIFIED != View.MeasureSpec.getMode(widthMeasureSpec)) {
+            width = View.MeasureSpec.getSize(widthMeasureSpec);
+        }
+
+        if (View.MeasureSpec.UNSPECIFIED != View.MeasureSpec.getMode(heightMeasureSpec)) {
+            height = Math.min(height, View.MeasureSpec.getSize(heightMeasureSpec));
+        }
+
+        setMeasuredDimension(width, height);
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        float yPos = h / 2f;
+        thumb = new Thumb(getResources(), yPos, thumbImage, thumbImagePressed);
+        internalPad = thumb.getThumbHalfWidthNormal();
+        seekBarLine = new SeekBarLine(getResources(), internalPad, yPos, w - 2 * internalPad, lineWeight, lineColor);
+
+        updateThumbScreenPositions();
+    }
+
+    @Override
+    protected synchronized void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (seekBarLine == null) {
+            return;
+        }
+        seekBarLine.draw(canvas);
+
+        for (int i = 0; i < thumbCount; i++) {
+            if (pressedThumbs.containsThumb(i)) {
+                continue;
+            }
+            thumb.setxPosition(thumbScreenX[i]);
+            thumb.draw(canvas);
+        }
+
+        // 눌린 Thumb은 겹친 Thumb 위에 보이도록 마지막에 그림
+        thumb.pressThumb();
+        for (int i = 0; i < pressedThumbs.size(); i++) {
+            thumb.setxPosition(thumbScreenX[pressedThumbs.thumbAt(i)]);
+            thumb.draw(canvas);
+        }
+        thumb.releaseThumb();
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        int actionIndex;
+
+        switch (event.getAction() & MotionEvent.ACTION_MASK) {
+            case MotionEvent.ACTION_DOWN:
+            case MotionEvent.ACTION_POINTER_DOWN:
+                actionIndex = event.getActionIndex();
+                int thumbIndex = findThumbIndex(event.getX(actionIndex), event.getY(actionIndex));
+                if (thumbIndex < 0 || pressedThumbs.containsThumb(thumbIndex)) {
+                    if (pressedThumbs.size() == 0) {
+                        return super.onTouchEvent(event);
+                    }
+                    break;
+                }
+
+                pressedThumbs.put(event.getPointerId(actionIndex), thumbIndex);
+                if (pressedThumbs.size() == 1) {
+                    setPressed(true);
+                    attemptClaimDrag();
+                }
+                invalidate();
+                if (listener != null) {
+                    listener.onStartTrackingTouch(this, thumbIndex);
+                }
+                break;
+
+            case MotionEvent.ACTION_MOVE:
+                // 이번 Event에서 움직인 모든 Pointer를 적용한 뒤 한번만 invalidate
+                boolean isChanged = false;
+                for (int i = 0; i < pressedThumbs.size(); i++) {
+                    int pointerIndex = event.findPointerIndex(pressedThumbs.pointerIdAt(i));
+                    if (pointerIndex >= 0) {
+                        isChanged |= setThumbValueInternal(pressedThumbs.thumbAt(i), screenToValue(event.getX(pointerIndex)), true);
+                    }
+                }
+                if (isChanged) {
+                    invalidate();
+                }
+                break;
+
+            case MotionEvent.ACTION_POINTER_UP:
+                actionIndex = event.getActionIndex();
+                int releasedThumbIndex = pressedThumbs.remove(event.getPointerId(actionIndex));
+                if (releasedThumbIndex != PointerThumbMap.NO_THUMB) {
+                    if (pressedThumbs.size() == 0) {
+                        setPressed(false);
+                        attemptReleaseDrag();
+                    }
+                    invalidate();
+                    if (listener != null) {
+                        listener.onStopTrackingTouch(this, releasedThumbIndex);
+                    }
+                }
+                break;
+
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                if (pressedThumbs.size() > 0) {
+                    setPressed(false);
+                    attemptReleaseDrag();
+                    invalidate();
+                    for (int i = 0; i < pressedThumbs.size(); i++) {
+                        if (listener != null) {
+                            listener.onStopTrackingTouch(this, pressedThumbs.thumbAt(i));
+                        }
+                    }
+                    pressedThumbs.clear();
+                }
+                break;
+        }
+        return true;
+    }
+
+    /**
+     * 화면 좌표에서 가장 가까운 Thumb의 index, 터치 범위 안에 Thumb이 없는 경우 -1
+     */
+    int findThumbIndex(float touchX, float touchY) {
+        if (Math.abs(touchY - getHeight() / 2f) > touchRadius) {
+            return -1;
+        }
+        return findThumbIndex(thumbScreenX, thumbCount, touchX, touchRadius);
+    }
+
+    /**
+     * 정렬된 화면 좌표에서 touchX와 가장 가까운 Thumb의 index, touchRadius 안에 Thumb이 없는 경우 -1
+     * 같은 위치에 겹친 Thumb은 터치한 쪽으로 움직일 수 있는 Thumb을 선택하고, 양쪽 거리가 같으면 왼쪽을 선택
+     */
+    static int findThumbIndex(float[] thumbScreenX, int thumbCount, float touchX, float touchRadius) {
+        if (thumbCount == 0) {
+            return -1;
+        }
+
+        // touchX 이상인 첫번째 Thumb (lower bound)
+        int low = 0;
+        int high = thumbCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thumbScreenX[mid] < touchX) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // 왼쪽 후보는 겹친 Thumb 중 가장 오른쪽(오른쪽으로 움직일 수 있음), 오른쪽 후보는 가장 왼쪽 Thumb
+        int left = low - 1;
+        int right = low;
+        float leftDistance = left >= 0 ? touchX - thumbScreenX[left] : Float.MAX_VALUE;
+        float rightDistance = right < thumbCount ? thumbScreenX[right] - touchX : Float.MAX_VALUE;
+
+        int nearest = leftDistance <= rightDistance ? left : right;
+        return Math.min(leftDistance, rightDistance) <= touchRadius ? nearest : -1;
+    }
+
+    public void setRange(long minValue, long maxValue) {
+        if (maxValue < minValue) {
+            throw new IllegalArgumentException("maxValue must be greater than or equal to minValue");
+        }
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+
+        for (int i = 0; i < thumbCount; i++) {
+            thumbValues[i] = Math.max(minValue, Math.min(maxValue, thumbValues[i]));
+        }
+        updateThumbScreenPositions();
+        invalidate();
+    }
+
+    public long getMinValue() {
+        return minValue;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * 전달된 값들로 Thumb 목록을 교체, 값은 범위 안으로 제한되고 정렬됨
+     */
+    public void setThumbValues(long... values) {
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, thumbValues, 0, values.length);
+        thumbCount = values.length;
+        for (int i = 0; i < thumbCount; i++) {
+            thumbValues[i] = Math.max(minValue, Math.min(maxValue, thumbValues[i]));
+        }
+        Arrays.sort(thumbValues, 0, thumbCount);
+        pressedThumbs.clear();
+
+        updateThumbScreenPositions();
+        invalidate();
+    }
+
+    /**
+     * @return 정렬된 위치에 추가된 Thumb의 index
+     */
+    public int addThumb(long value) {
+        value = Math.max(minValue, Math.min(maxValue, value));
+        ensureCapacity(thumbCount + 1);
+
+        int index = Arrays.binarySearch(thumbValues, 0, thumbCount, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        System.arraycopy(thumbValues, index, thumbValues, index + 1, thumbCount - index);
+        System.arraycopy(thumbScreenX, index, thumbScreenX, index + 1, thumbCount - index);
+        thumbValues[index] = value;
+        thumbScreenX[index] = valueToScreen(value);
+        thumbCount++;
+
+        // 잡고 있는 Thumb의 index를 함께 이동
+        for (int i = 0; i < pressedThumbs.size(); i++) {
+            if (pressedThumbs.thumbAt(i) >= index) {
+                pressedThumbs.setThumbAt(i, pressedThumbs.thumbAt(i) + 1);
+            }
+        }
+        invalidate();
+        return index;
+    }
+
+    public void removeThumb(int index) {
+        checkThumbIndex(index);
+        System.arraycopy(thumbValues, index + 1, thumbValues, index, thumbCount - index - 1);
+        System.arraycopy(thumbScreenX, index + 1, thumbScreenX, index, thumbCount - index - 1);
+        thumbCount--;
+
+        for (int i = pressedThumbs.size() - 1; i >= 0; i--) {
+            if (pressedThumbs.thumbAt(i) == index) {
+                pressedThumbs.removeAt(i);
+            } else if (pressedThumbs.thumbAt(i) > index) {
+                pressedThumbs.setThumbAt(i, pressedThumbs.thumbAt(i) - 1);
+            }
+        }
+        invalidate();
+    }
+
+    public int getThumbCount() {
+        return thumbCount;
+    }
+
+    public long getThumbValue(int index) {
+        checkThumbIndex(index);
+        return thumbValues[index];
+    }
+
+    /**
+     * @return 모든 Thumb의 값을 복사한 배열 (오름차순)
+     */
+    public long[] getThumbValues() {
+        return Arrays.copyOf(thumbValues, thumbCount);
+    }
+
+    /**
+     * 값은 이웃한 Thumb 사이로 제한되어 정렬 순서가 유지됨
+     */
+    public void setThumbValue(int index, long value) {
+        checkThumbIndex(index);
+        if (setThumbValueInternal(index, value, false)) {
+            invalidate();
+        }
+    }
+
+    public void setOnMultiThumbRangeBarChangeListener(OnMultiThumbRangeBarChangeListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return 값이 바뀐 경우 true, invalidate는 호출한 쪽에서 함
+     */
+    private boolean setThumbValueInternal(int index, long value, boolean fromUser) {
+        long lowerBound = index > 0 ? thumbValues[index - 1] : minValue;
+        long upperBound = index < thumbCount - 1 ? thumbValues[index + 1] : maxValue;
+        value = Math.max(lowerBound, Math.min(upperBound, value));
+        if (value == thumbValues[index]) {
+            return false;
+        }
+
+        thumbValues[index] = value;
+        thumbScreenX[index] = valueToScreen(value);
+
+        if (listener != null) {
+            listener.onThumbValueChanged(this, index, value, fromUser);
+        }
+        return true;
+    }
+
+    private void updateThumbScreenPositions() {
+        for (int i = 0; i < thumbCount; i++) {
+            thumbScreenX[i] = valueToScreen(thumbValues[i]);
+        }
+    }
+
+    private float valueToScreen(long value) {
+        long range = maxValue - minValue;
+        float barWidth = getWidth() - 2 * internalPad;
+        if (range == 0 || barWidth <= 0) {
+            return internalPad;
+        }
+        return (float) (internalPad + (value - minValue) / (double) range * barWidth);
+    }
+
+    private long screenToValue(float screenX) {
+        float barWidth = getWidth() - 2 * internalPad;
+        if (barWidth <= 0) {
+            return minValue;
+        }
+        double normalized = Math.max(0d, Math.min(1d, (screenX - internalPad) / barWidth));
+        return minValue + Math.round(normalized * (maxValue - minValue));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= thumbValues.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, thumbValues.length * 2);
+        thumbValues = Arrays.copyOf(thumbValues, newCapacity);
+        thumbScreenX = Arrays.copyOf(thumbScreenX, newCapacity);
+    }
+
+    private void checkThumbIndex(int index) {
+        if (index < 0 || index >= thumbCount) {
+            throw new IndexOutOfBoundsException("index " + index + ", thumbCount " + thumbCount);
+        }
+    }
+
+    public interface OnMultiThumbRangeBarChangeListener {
+
+        void onStartTrackingTouch(MultiThumbRangeBar rangeBar, int thumbIndex);
+
+        void onStopTrackingTouch(MultiThumbRangeBar rangeBar, int thumbIndex);
+
+        /**
+         * @param fromUser Touch로 변경된 경우 true
+         */
+        void onThumbValueChanged(MultiThumbRangeBar rangeBar, int thumbIndex, long value, boolean fromUser);
+    }
+}
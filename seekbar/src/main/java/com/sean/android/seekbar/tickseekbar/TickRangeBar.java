@@ -19,6 +19,9 @@ import com.sean.android.seekbar.ProgressLine;
 import com.sean.android.seekbar.R;
 import com.sean.android.seekbar.Thumb;
 import com.sean.android.seekbar.util.BitmapUtil;
+import com.sean.android.seekbar.util.ConflatingDispatcher;
+
+import java.util.concurrent.Executor;
 
 /**
  * Created by Seonil on 2016-12-13.
@@ -74,6 +77,9 @@ public class TickRangeBar extends AbstractSeekBar {
     private int scaledTouchSlop;
 
     private OnTickSeekBarChangeListener onTickSeekBarChangeListener;
+    private ConflatingDispatcher listenerDispatcher; // null인 경우 Main Thread에서 바로 호출
+
+    private static final int DISPATCH_KEY_TICK_INDEX = 0;
 
     public TickRangeBar(Context context) {
         super(context);
@@ -246,9 +252,7 @@ public class TickRangeBar extends AbstractSeekBar {
                     attemptClaimDrag();
 
 
-                    if (onTickSeekBarChangeListener != null) {
-                        onTickSeekBarChangeListener.onStartTrackingTouch(this);
-                    }
+                    notifyTrackingTouch(true);
 
                 }
                 break;
@@ -271,91 +275,70 @@ public class TickRangeBar extends AbstractSeekBar {
                 trackTouchEvent(event);
                 releaseThumb(thumb);
                 attemptReleaseDrag();
-                if (onTickSeekBarChangeListener != null) {
-                    onTickSeekBarChangeListener.onStopTrackingTouch(this);
-                    onTickSeekBarChangeListener.onTickIndexChanged(this, currentThumbindex);
-                }
+                notifyTrackingTouch(false);
+                notifyTickIndexChanged();
 
                 break;
             case MotionEvent.ACTION_POINTER_DOWN:
                 break;
 
             case MotionEvent.ACTION_POINTER_UP:
+                // Thumb이 하나뿐이므로 Thumb을 잡은 손가락을 먼저 뗀 경우 남은 손가락이 이어서 Drag
+                pointerIndex = event.getActionIndex();
+                if (event.getPointerId(pointerIndex) == activePointerId) {
+                    activePointerId = event.getPointerId(pointerIndex == 0 ? 1 : 0);
+                }
                 break;
         }
 
         return true;
     }
 
-    public void setTickCount(int count) {
-        if (isValidTickCount(count)) {
-            tickCount = count;
-
-
-            if (indexOutOfRange(currentThumbindex)) {
-                currentThumbindex = 0;
-
-                if (onTickSeekBarChangeListener != null) {
-                    onTickSeekBarChangeListener.onTickIndexChanged(this, currentThumbindex);
-                }
-            }
-        }
+    /**
+     * 여러 속성을 한번에 변경하기 위한 Editor를 return
+     * Editor의 apply를 호출할때 검증, TickSeekBarLine과 Thumb 생성, invalidate가 한번씩만 실행됨
+     * <pre>
+     * tickRangeBar.edit().setTickCount(5).setLineColor(color).setThumbRadius(radius).apply();
+     * </pre>
+     */
+    public Editor edit() {
+        return new Editor();
+    }
 
-        reDrawLine();
-        reDrawThumb();
+    public void setTickCount(int count) {
+        edit().setTickCount(count).apply();
     }
 
     public void setTickChildCount(int count) {
-        if (isValidTickChildCount(count)) {
-            tickChildCount = count;
-
-
-            if (indexOutOfRange(currentThumbindex)) {
-                currentThumbindex = 0;
-
-                if (onTickSeekBarChangeListener != null) {
-                    onTickSeekBarChangeListener.onTickIndexChanged(this, currentThumbindex);
-                }
-            }
-        }
-
-        reDrawLine();
-        reDrawThumb();
+        edit().setTickChildCount(count).apply();
     }
 
     public void setTickHeight(float height) {
-        tickHeight = height;
-        reDrawLine();
+        edit().setTickHeight(height).apply();
     }
 
     public void setChildTickHeight(float height) {
-        tickChildHeight = height;
-        reDrawLine();
+        edit().setChildTickHeight(height).apply();
     }
 
     public void setLineWeight(float weight) {
-        lineWeight = weight;
-        reDrawLine();
+        edit().setLineWeight(weight).apply();
     }
 
     public void setLineColor(int color) {
-        defaultColor = color;
-        reDrawLine();
+        edit().setLineColor(color).apply();
     }
 
     public void setThumbRadius(float radius) {
-        thumbRadius = radius;
-        reDrawThumb();
+        edit().setThumbRadius(radius).apply();
     }
 
     public void setThumbColor(int color) {
-        thumbColor = color;
-        reDrawThumb();
+        edit().setThumbColor(color).apply();
     }
 
     public void setThumbColorPressed(int color) {
-        thumbColorPressed = color;
-        reDrawThumb();
+        edit().setThumbColorPressed(color).apply();
     }
 
     public void setThumbImage(int resourceId) {
@@ -376,8 +359,7 @@ public class TickRangeBar extends AbstractSeekBar {
     }
 
     public void setThumbImage(Bitmap bitmap) {
-        thumbImage = bitmap;
-        reDrawThumb();
+        edit().setThumbImage(bitmap).apply();
     }
 
     public void setThumbImagePressed(int resourceId) {
@@ -395,8 +377,7 @@ public class TickRangeBar extends AbstractSeekBar {
     }
 
     public void setThumbImagePressed(Bitmap bitmap) {
-        thumbImagePressed = bitmap;
-        reDrawThumb();
+        edit().setThumbImagePressed(bitmap).apply();
     }
 
     public void setThumbIndex(int index) {
@@ -406,9 +387,7 @@ public class TickRangeBar extends AbstractSeekBar {
             currentThumbindex = index;
 
             reDrawThumb();
-            if (onTickSeekBarChangeListener != null) {
-                onTickSeekBarChangeListener.onTickIndexChanged(this, currentThumbindex);
-            }
+            notifyTickIndexChanged();
         }
 
         invalidate();
@@ -455,19 +434,173 @@ public class TickRangeBar extends AbstractSeekBar {
         return (index < 1 || index >= tickCount);
     }
 
-    private void reDrawLine() {
-        seekBarLine = new TickSeekBarLine(getResources(), internalPad, getYPosition(), getBarWidth(), tickCount, tickChildCount, tickHeight, tickChildHeight, lineWeight, defaultColor);
-
+    private void reDrawThumb() {
+        rebuildThumb();
         invalidate();
     }
 
-    private void reDrawThumb() {
+    /**
+     * Layout 전에는 onSizeChanged에서 만들어지므로 만들지 않음
+     */
+    private void rebuildLine() {
+        if (getWidth() == 0) {
+            return;
+        }
+        seekBarLine = new TickSeekBarLine(getResources(), internalPad, getYPosition(), getBarWidth(), tickCount, tickChildCount, tickHeight, tickChildHeight, lineWeight, defaultColor);
+    }
+
+    private void rebuildThumb() {
+        if (getWidth() == 0) {
+            return;
+        }
         thumb = new Thumb(getResources(), getYPosition(), thumbRadius, thumbImage, thumbImagePressed, thumbColor, thumbColorPressed);
 
         float barWidth = getBarWidth();
         int count = (tickCount - 1) * tickChildCount;
         thumb.setxPosition(internalPad + (currentThumbindex / count) * barWidth);
+    }
+
+    /**
+     * Editor에서 변경된 값을 한번에 적용
+     */
+    private void applyEditor(Editor editor) {
+        boolean isLineChanged = editor.isLineChanged;
+        boolean isThumbChanged = editor.isThumbChanged;
+
+        if (editor.tickCount != tickCount || editor.tickChildCount != tickChildCount) {
+            tickCount = editor.tickCount;
+            tickChildCount = editor.tickChildCount;
+            isLineChanged = true;
+            isThumbChanged = true;
+        }
+        tickHeight = editor.tickHeight;
+        tickChildHeight = editor.tickChildHeight;
+        lineWeight = editor.lineWeight;
+        defaultColor = editor.defaultColor;
+        thumbRadius = editor.thumbRadius;
+        thumbColor = editor.thumbColor;
+        thumbColorPressed = editor.thumbColorPressed;
+        thumbImage = editor.thumbImage;
+        thumbImagePressed = editor.thumbImagePressed;
+
+        boolean isIndexReset = editor.isTickCountChanged && indexOutOfRange(currentThumbindex);
+        if (isIndexReset) {
+            currentThumbindex = 0;
+            isThumbChanged = true;
+        }
+
+        if (!isLineChanged && !isThumbChanged) {
+            return;
+        }
+        if (isLineChanged) {
+            rebuildLine();
+        }
+        if (isThumbChanged) {
+            rebuildThumb();
+        }
         invalidate();
+
+        if (isIndexReset) {
+            notifyTickIndexChanged();
+        }
+    }
+
+    /**
+     * TickRangeBar의 속성을 모아두었다가 apply에서 한번에 적용하는 Class, 잘못된 Tick 개수는 무시됨
+     */
+    public final class Editor {
+        private int tickCount = TickRangeBar.this.tickCount;
+        private int tickChildCount = TickRangeBar.this.tickChildCount;
+        private float tickHeight = TickRangeBar.this.tickHeight;
+        private float tickChildHeight = TickRangeBar.this.tickChildHeight;
+        private float lineWeight = TickRangeBar.this.lineWeight;
+        private int defaultColor = TickRangeBar.this.defaultColor;
+        private float thumbRadius = TickRangeBar.this.thumbRadius;
+        private int thumbColor = TickRangeBar.this.thumbColor;
+        private int thumbColorPressed = TickRangeBar.this.thumbColorPressed;
+        private Bitmap thumbImage = TickRangeBar.this.thumbImage;
+        private Bitmap thumbImagePressed = TickRangeBar.this.thumbImagePressed;
+
+        private boolean isTickCountChanged = false;
+        private boolean isLineChanged = false;
+        private boolean isThumbChanged = false;
+
+        private Editor() {
+        }
+
+        public Editor setTickCount(int count) {
+            if (isValidTickCount(count)) {
+                tickCount = count;
+            }
+            isTickCountChanged = true;
+            return this;
+        }
+
+        public Editor setTickChildCount(int count) {
+            if (isValidTickChildCount(count)) {
+                tickChildCount = count;
+            }
+            isTickCountChanged = true;
+            return this;
+        }
+
+        public Editor setTickHeight(float height) {
+            tickHeight = height;
+            isLineChanged = true;
+            return this;
+        }
+
+        public Editor setChildTickHeight(float height) {
+            tickChildHeight = height;
+            isLineChanged = true;
+            return this;
+        }
+
+        public Editor setLineWeight(float weight) {
+            lineWeight = weight;
+            isLineChanged = true;
+            return this;
+        }
+
+        public Editor setLineColor(int color) {
+            defaultColor = color;
+            isLineChanged = true;
+            return this;
+        }
+
+        public Editor setThumbRadius(float radius) {
+            thumbRadius = radius;
+            isThumbChanged = true;
+            return this;
+        }
+
+        public Editor setThumbColor(int color) {
+            thumbColor = color;
+            isThumbChanged = true;
+            return this;
+        }
+
+        public Editor setThumbColorPressed(int color) {
+            thumbColorPressed = color;
+            isThumbChanged = true;
+            return this;
+        }
+
+        public Editor setThumbImage(Bitmap bitmap) {
+            thumbImage = bitmap;
+            isThumbChanged = true;
+            return this;
+        }
+
+        public Editor setThumbImagePressed(Bitmap bitmap) {
+            thumbImagePressed = bitmap;
+            isThumbChanged = true;
+            return this;
+        }
+
+        public void apply() {
+            applyEditor(this);
+        }
     }
 
     private float getYPosition() {
@@ -479,7 +612,69 @@ public class TickRangeBar extends AbstractSeekBar {
     }
 
     public void setOnTickSeekBarChangeListener(OnTickSeekBarChangeListener onTickSeekBarChangeListener) {
+        setOnTickSeekBarChangeListener(onTickSeekBarChangeListener, null);
+    }
+
+    /**
+     * Listener를 executor에서 호출하도록 등록, Touch 처리는 Listener의 처리를 기다리지 않음
+     * index는 변경 시점의 값이 전달되며, 아직 전달되지 않은 index 변경은 최신 값으로 교체됨
+     *
+     * @param executor null인 경우 Main Thread에서 바로 호출
+     */
+    public void setOnTickSeekBarChangeListener(OnTickSeekBarChangeListener onTickSeekBarChangeListener, Executor executor) {
+        if (listenerDispatcher != null) {
+            listenerDispatcher.clear();
+        }
         this.onTickSeekBarChangeListener = onTickSeekBarChangeListener;
+        this.listenerDispatcher = executor != null ? new ConflatingDispatcher(executor) : null;
+    }
+
+    private void notifyTickIndexChanged() {
+        final OnTickSeekBarChangeListener target = onTickSeekBarChangeListener;
+        if (target == null) {
+            return;
+        }
+
+        final int index = currentThumbindex;
+        if (listenerDispatcher == null) {
+            target.onTickIndexChanged(this, index);
+            return;
+        }
+        listenerDispatcher.post(DISPATCH_KEY_TICK_INDEX, new Runnable() {
+            @Override
+            public void run() {
+                target.onTickIndexChanged(TickRangeBar.this, index);
+            }
+        });
+    }
+
+    /**
+     * @param start true인 경우 onStartTrackingTouch, false인 경우 onStopTrackingTouch
+     */
+    private void notifyTrackingTouch(final boolean start) {
+        final OnTickSeekBarChangeListener target = onTickSeekBarChangeListener;
+        if (target == null) {
+            return;
+        }
+
+        if (listenerDispatcher == null) {
+            if (start) {
+                target.onStartTrackingTouch(this);
+            } else {
+                target.onStopTrackingTouch(this);
+            }
+            return;
+        }
+        listenerDispatcher.post(ConflatingDispatcher.KEY_NONE, new Runnable() {
+            @Override
+            public void run() {
+                if (start) {
+                    target.onStartTrackingTouch(TickRangeBar.this);
+                } else {
+                    target.onStopTrackingTouch(TickRangeBar.this);
+                }
+            }
+        });
     }
 
     public interface OnTickSeekBarChangeListener {
@@ -13,6 +13,8 @@ import com.sean.android.seekbar.Thumb;
 
 public class TickSeekBarLine extends SeekBarLine {
 
+    private static final float MIN_TICK_SPACING_DP = 3; // Tick 간격이 이보다 좁으면 일부 Tick을 생략
+
     private final int tickCount;
     private final int tickChildCount;
     private float tickDistance;
@@ -27,6 +29,10 @@ public class TickSeekBarLine extends SeekBarLine {
     private int tickDrawCount;
     private int tickChildDrawCount;
 
+    private final float minTickSpacing;
+    private float[] tickLines; // drawLines로 한번에 그리기 위해 미리 계산해둔 Tick 좌표 (x0, y0, x1, y1)
+    private int tickLineCount;
+
 
     public TickSeekBarLine(Resources resources, float x, float y, float width, int tickCount, int tickChildCount, float tickHeight, float tickChildHeight, float lineWeight, int lineColor) {
         super(resources, x, y, width, lineWeight, lineColor);
@@ -34,7 +40,9 @@ public class TickSeekBarLine extends SeekBarLine {
         this.tickChildHeight = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, tickChildHeight, resources.getDisplayMetrics());
         this.tickCount = tickCount;
         this.tickChildCount = tickChildCount;
+        this.minTickSpacing = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, MIN_TICK_SPACING_DP, resources.getDisplayMetrics());
         initializeTick();
+        initializeTickLines();
     }
 
 
@@ -61,21 +69,58 @@ public class TickSeekBarLine extends SeekBarLine {
     }
 
 
-    private void drawTicks(Canvas canvas) {
+    /**
+     * 모든 Tick의 좌표를 하나의 배열로 미리 계산, Tick 위치는 생성 후 바뀌지 않으므로 한번만 계산함
+     * 간격이 minTickSpacing보다 좁은 Tick은 같은 Pixel에 겹쳐 그려지므로 일정 간격으로 생략함
+     */
+    private void initializeTickLines() {
+        int tickStep = getTickStep(tickDistance);
+        int childStep = getTickStep(tickChildDistance);
+
+        int majorCount = (tickDrawCount + tickStep - 1) / tickStep;
+        int childCount = tickStep > 1 ? 0 : (tickChildDrawCount - 1) / childStep;
+        tickLines = new float[(majorCount * (1 + childCount) + 1) * 4];
+        tickLineCount = 0;
+
         // Loop through and draw each tick (except final tick).
-        for (int i = 0; i < tickDrawCount; i++) {
+        for (int i = 0; i < tickDrawCount; i += tickStep) {
             final float x = i * tickDistance + leftXPosition;
-            canvas.drawLine(x, tickStartY, x, tickEndY, paint);
+            addTickLine(x, tickStartY, tickEndY);
 
-            for (int j = 1; j < tickChildDrawCount; j++) {
+            for (int j = childStep; j < tickChildDrawCount && childCount > 0; j += childStep) {
                 float childX = j * tickChildDistance + x;
-                canvas.drawLine(childX, tickChildStartY, childX, tickChildEndY, paint);
+                addTickLine(childX, tickChildStartY, tickChildEndY);
             }
-
         }
         // Draw final tick. We draw the final tick outside the loop to avoid any
         // rounding discrepancies.
-        canvas.drawLine(rightXPosition, tickStartY, rightXPosition, tickEndY, paint);
+        addTickLine(rightXPosition, tickStartY, tickEndY);
+    }
+
+    /**
+     * 간격이 distance인 Tick을 minTickSpacing 이상의 간격으로 그리기 위해 몇 개마다 하나씩 그릴지 계산
+     */
+    private int getTickStep(float distance) {
+        if (distance <= 0) {
+            return 1;
+        }
+        return Math.max(1, (int) Math.ceil(minTickSpacing / distance));
+    }
+
+    private void addTickLine(float x, float startY, float endY) {
+        int offset = tickLineCount * 4;
+        if (offset + 4 > tickLines.length) {
+            return;
+        }
+        tickLines[offset] = x;
+        tickLines[offset + 1] = startY;
+        tickLines[offset + 2] = x;
+        tickLines[offset + 3] = endY;
+        tickLineCount++;
+    }
+
+    private void drawTicks(Canvas canvas) {
+        canvas.drawLines(tickLines, 0, tickLineCount * 4, paint);
     }
 
     public float getNearestTickCoodinate(Thumb thumb) {
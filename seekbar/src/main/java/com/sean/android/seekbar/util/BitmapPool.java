@@ -0,0 +1,171 @@
+package com.sean.android.seekbar.util;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Color;
+import android.os.Build;
+import android.support.v4.util.LongSparseArray;
+
+import java.util.ArrayDeque;
+
+/**
+ * 같은 크기(width, height, config)의 Bitmap을 재사용하기 위한 Pool
+ * 크기별 Bucket으로 관리하며, 전체 byte 크기가 maxSize를 넘으면 가장 오래 사용되지 않은 Bucket부터 비움
+ */
+public class BitmapPool {
+
+    private static final int DEFAULT_MAX_SIZE_DIVIDER = 16; // 최대 Heap 크기의 1/16을 Pool로 사용
+
+    private static BitmapPool instance;
+
+    private final LongSparseArray<Bucket> buckets = new LongSparseArray<>();
+    private final int maxSize;
+    private int size;
+    private long useSequence;
+
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+
+    public static synchronized BitmapPool getInstance() {
+        if (instance == null) {
+            instance = new BitmapPool((int) (Runtime.getRuntime().maxMemory() / DEFAULT_MAX_SIZE_DIVIDER));
+        }
+        return instance;
+    }
+
+    public BitmapPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Pool에서 재사용 가능한 Bitmap을 가져오거나, 없는 경우 새로 생성
+     * 재사용된 Bitmap은 투명하게 지워진 상태로 return 됨
+     */
+    public Bitmap get(int width, int height, Bitmap.Config config) {
+        Bitmap bitmap = obtain(width, height, config);
+        if (bitmap != null) {
+            bitmap.eraseColor(Color.TRANSPARENT);
+            return bitmap;
+        }
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * BitmapFactory로 Decode할 때 Pool의 Bitmap을 inBitmap으로 재사용하도록 Options를 설정
+     * inBitmap을 지원하지 않는 버전(API 11 미만)에서는 아무것도 하지 않음
+     *
+     * @param width  Decode 결과 Bitmap의 width (inSampleSize 적용 후)
+     * @param height Decode 결과 Bitmap의 height (inSampleSize 적용 후)
+     */
+    public void prepareOptions(BitmapFactory.Options options, int width, int height, Bitmap.Config config) {
+        options.inPreferredConfig = config;
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return;
+        }
+        options.inMutable = true;
+        options.inBitmap = obtain(width, height, config);
+    }
+
+    /**
+     * 사용이 끝난 Bitmap을 Pool에 반환, Pool에 들어가지 못하는 Bitmap은 recycle 됨
+     */
+    public synchronized void put(Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled()) {
+            return;
+        }
+
+        int byteCount = getByteCount(bitmap);
+        if (!bitmap.isMutable() || bitmap.getConfig() == null || byteCount > maxSize) {
+            bitmap.recycle();
+            return;
+        }
+
+        long key = key(bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig());
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket();
+            buckets.put(key, bucket);
+        }
+        bucket.bitmaps.addLast(bitmap);
+        bucket.lastUsed = ++useSequence;
+        size += byteCount;
+
+        trimToSize(maxSize);
+    }
+
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private synchronized Bitmap obtain(int width, int height, Bitmap.Config config) {
+        Bucket bucket = buckets.get(key(width, height, config));
+        if (bucket == null || bucket.bitmaps.isEmpty()) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        bucket.lastUsed = ++useSequence;
+        Bitmap bitmap = bucket.bitmaps.removeLast();
+        size -= getByteCount(bitmap);
+        return bitmap;
+    }
+
+    private void trimToSize(int targetSize) {
+        while (size > targetSize) {
+            Bucket eldest = null;
+            for (int i = 0; i < buckets.size(); i++) {
+                Bucket bucket = buckets.valueAt(i);
+                if (!bucket.bitmaps.isEmpty() && (eldest == null || bucket.lastUsed < eldest.lastUsed)) {
+                    eldest = bucket;
+                }
+            }
+            if (eldest == null) {
+                size = 0;
+                return;
+            }
+
+            Bitmap bitmap = eldest.bitmaps.removeFirst();
+            size -= getByteCount(bitmap);
+            evictionCount++;
+            bitmap.recycle();
+        }
+    }
+
+    private static long key(int width, int height, Bitmap.Config config) {
+        return ((long) width << 32) | ((long) height << 8) | config.ordinal();
+    }
+
+    private static int getByteCount(Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB_MR1) {
+            return bitmap.getByteCount();
+        }
+        return bitmap.getRowBytes() * bitmap.getHeight();
+    }
+
+    private static class Bucket {
+        private final ArrayDeque<Bitmap> bitmaps = new ArrayDeque<>();
+        private long lastUsed;
+    }
+}
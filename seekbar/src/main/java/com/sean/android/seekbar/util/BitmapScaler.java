@@ -0,0 +1,29 @@
+package com.sean.android.seekbar.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+
+/**
+ * Bitmap.createScaledBitmap 대신 이미 할당된 Bitmap에 크기를 맞춰 그려주는 Class
+ * Canvas, Matrix, Paint를 재사용하므로 하나의 Thread에서만 사용해야 함
+ */
+public class BitmapScaler {
+
+    private final Canvas canvas = new Canvas();
+    private final Matrix matrix = new Matrix();
+    private final Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    /**
+     * source를 target 크기에 맞게 늘리거나 줄여서 그림
+     *
+     * @return target
+     */
+    public Bitmap scale(Bitmap source, Bitmap target) {
+        matrix.setScale((float) target.getWidth() / source.getWidth(), (float) target.getHeight() / source.getHeight());
+        canvas.setBitmap(target);
+        canvas.drawBitmap(source, matrix, paint);
+        return target;
+    }
+}
@@ -4,8 +4,15 @@ import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 
 public class BitmapUtil {
+
+    private static final int VERSION_CODES_O = 26; // Bitmap.Config.HARDWARE가 추가된 버전
+
+    private static Bitmap.Config hardwareConfig;
+    private static boolean isHardwareConfigResolved = false;
+
     public static Bitmap drawableToBitmap(Drawable drawable) {
         if (drawable instanceof BitmapDrawable) {
             return ((BitmapDrawable) drawable).getBitmap();
@@ -28,4 +35,45 @@ public class BitmapUtil {
 
         return bitmap;
     }
+
+    /**
+     * API 26 이상에서 사용할 수 있는 Bitmap.Config.HARDWARE, 지원하지 않는 경우 null
+     * compileSdkVersion에 HARDWARE가 없으므로 이름으로 찾음
+     */
+    public static synchronized Bitmap.Config getHardwareConfig() {
+        if (!isHardwareConfigResolved) {
+            isHardwareConfigResolved = true;
+            if (Build.VERSION.SDK_INT >= VERSION_CODES_O) {
+                try {
+                    hardwareConfig = Bitmap.Config.valueOf("HARDWARE");
+                } catch (IllegalArgumentException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return hardwareConfig;
+    }
+
+    /**
+     * HARDWARE Bitmap은 Canvas로 그리거나 inBitmap으로 재사용할 수 없으므로 Software Bitmap을 거쳐서 만들어야 함
+     */
+    public static boolean isHardwareConfig(Bitmap.Config config) {
+        return config != null && config == getHardwareConfig();
+    }
+
+    /**
+     * 원본 크기(width x height)의 이미지를 요청 크기보다 작아지지 않는 범위에서 최대한 줄여서 Decode 하기 위한 inSampleSize
+     *
+     * @return 2의 거듭제곱 형태의 inSampleSize, 줄일 수 없는 경우 1
+     */
+    public static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
+        int inSampleSize = 1;
+        if (reqWidth <= 0 || reqHeight <= 0) {
+            return inSampleSize;
+        }
+        while (width / (inSampleSize * 2) >= reqWidth && height / (inSampleSize * 2) >= reqHeight) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.sean.android.seekbar.util;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Listener Callback을 지정된 Executor에서 요청된 순서대로 하나씩 실행하는 Class
+ * 같은 key의 Event가 아직 전달되지 않고 대기열 마지막에 있는 경우 최신 Event로 교체하여
+ * 처리가 느린 Listener에서도 값 변경 Event가 계속 쌓이지 않도록 함
+ * post는 대기열에 추가만 하므로 호출한 Thread(Main Thread)는 Listener의 처리를 기다리지 않음
+ * Executor가 종료되어 작업을 거부하는 경우 대기중인 Event는 버려지며 post를 호출한 Thread로 예외가 전달되지 않음
+ */
+public class ConflatingDispatcher {
+
+    /**
+     * 다른 Event와 병합하지 않는 Event의 key (Tracking 시작, 종료 등)
+     */
+    public static final int KEY_NONE = -1;
+
+    private final Executor executor;
+    private final ArrayDeque<Entry> pendingEntries = new ArrayDeque<>();
+    private boolean isScheduled = false;
+
+    private final Runnable drainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    public ConflatingDispatcher(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.executor = executor;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param key   같은 key의 값 변경 Event끼리만 병합, 병합하지 않는 경우 KEY_NONE
+     * @param event 전달할 값을 미리 복사해둔 Event
+     */
+    public void post(int key, Runnable event) {
+        boolean shouldSchedule;
+        synchronized (pendingEntries) {
+            Entry last = pendingEntries.peekLast();
+            if (key != KEY_NONE && last != null && last.key == key) {
+                last.event = event;
+            } else {
+                pendingEntries.addLast(new Entry(key, event));
+            }
+
+            shouldSchedule = !isScheduled;
+            isScheduled = true;
+        }
+
+        if (shouldSchedule) {
+            scheduleDrain();
+        }
+    }
+
+    private void scheduleDrain() {
+        boolean isExecuted = false;
+        try {
+            executor.execute(drainRunnable);
+            isExecuted = true;
+        } catch (RejectedExecutionException e) {
+            // 종료된 Executor에는 더 이상 전달할 수 없으므로 대기열을 비움
+            e.printStackTrace();
+        } finally {
+            if (!isExecuted) {
+                synchronized (pendingEntries) {
+                    pendingEntries.clear();
+                    isScheduled = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 아직 전달되지 않은 Event를 모두 버림
+     */
+    public void clear() {
+        synchronized (pendingEntries) {
+            pendingEntries.clear();
+        }
+    }
+
+    /**
+     * Executor가 여러 Thread를 사용하더라도 Event가 순서대로 하나씩 전달되도록 한번에 하나의 작업만 실행
+     * Listener에서 발생한 예외는 Executor로 그대로 전달하고, 남은 Event는 다시 예약하여 이후 Event가 멈추지 않도록 함
+     */
+    private void drain() {
+        while (true) {
+            Entry entry;
+            synchronized (pendingEntries) {
+                entry = pendingEntries.pollFirst();
+                if (entry == null) {
+                    isScheduled = false;
+                    return;
+                }
+            }
+
+            boolean isCompleted = false;
+            try {
+                entry.event.run();
+                isCompleted = true;
+            } finally {
+                if (!isCompleted) {
+                    onEventFailed();
+                }
+            }
+        }
+    }
+
+    private void onEventFailed() {
+        boolean hasPendingEntries;
+        synchronized (pendingEntries) {
+            hasPendingEntries = !pendingEntries.isEmpty();
+            if (!hasPendingEntries) {
+                isScheduled = false;
+            }
+        }
+        if (hasPendingEntries) {
+            scheduleDrain();
+        }
+    }
+
+    private static class Entry {
+        final int key;
+        Runnable event;
+
+        Entry(int key, Runnable event) {
+            this.key = key;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.sean.android.seekbar.util;
+
+/**
+ * Touch Pointer ID와 해당 Pointer가 잡고 있는 Thumb 번호를 연결하는 작은 Map
+ * 동시에 Touch하는 Pointer는 많지 않으므로 int 배열을 순차 탐색하며, Touch Event 처리 중에는 객체를 할당하지 않음
+ */
+public class PointerThumbMap {
+
+    public static final int NO_THUMB = -1;
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] pointerIds = new int[DEFAULT_CAPACITY];
+    private int[] thumbs = new int[DEFAULT_CAPACITY];
+    private int size = 0;
+
+    /**
+     * 이미 등록된 Pointer인 경우 Thumb을 교체
+     */
+    public void put(int pointerId, int thumb) {
+        int index = indexOfPointer(pointerId);
+        if (index >= 0) {
+            thumbs[index] = thumb;
+            return;
+        }
+
+        if (size == pointerIds.length) {
+            // 기기가 지원하는 Pointer 수를 넘는 경우에만 늘어남
+            int[] newPointerIds = new int[size * 2];
+            int[] newThumbs = new int[size * 2];
+            System.arraycopy(pointerIds, 0, newPointerIds, 0, size);
+            System.arraycopy(thumbs, 0, newThumbs, 0, size);
+            pointerIds = newPointerIds;
+            thumbs = newThumbs;
+        }
+        pointerIds[size] = pointerId;
+        thumbs[size] = thumb;
+        size++;
+    }
+
+    /**
+     * @return Pointer가 잡고 있는 Thumb, 없는 경우 NO_THUMB
+     */
+    public int get(int pointerId) {
+        int index = indexOfPointer(pointerId);
+        return index >= 0 ? thumbs[index] : NO_THUMB;
+    }
+
+    /**
+     * @return 제거된 Pointer가 잡고 있던 Thumb, 없는 경우 NO_THUMB
+     */
+    public int remove(int pointerId) {
+        int index = indexOfPointer(pointerId);
+        if (index < 0) {
+            return NO_THUMB;
+        }
+        int thumb = thumbs[index];
+        removeAt(index);
+        return thumb;
+    }
+
+    public void removeAt(int index) {
+        System.arraycopy(pointerIds, index + 1, pointerIds, index, size - index - 1);
+        System.arraycopy(thumbs, index + 1, thumbs, index, size - index - 1);
+        size--;
+    }
+
+    public boolean containsThumb(int thumb) {
+        for (int i = 0; i < size; i++) {
+            if (thumbs[i] == thumb) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int pointerIdAt(int index) {
+        return pointerIds[index];
+    }
+
+    public int thumbAt(int index) {
+        return thumbs[index];
+    }
+
+    public void setThumbAt(int index, int thumb) {
+        thumbs[index] = thumb;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private int indexOfPointer(int pointerId) {
+        for (int i = 0; i < size; i++) {
+            if (pointerIds[i] == pointerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sean.android.seekbar.util;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.RequiresApi;
+import android.view.Choreographer;
+
+/**
+ * 화면 갱신 주기(vsync)마다 Callback을 호출해주는 Class
+ * API 16 이상에서는 Choreographer를 사용하고, 그 이하에서는 Handler로 약 60fps 주기를 흉내냄
+ * start, stop 및 Callback은 모두 Main Thread에서 호출됨
+ */
+public class VsyncTicker {
+
+    private static final long FALLBACK_FRAME_INTERVAL_MS = 16;
+    private static final long FRAME_INTERVAL_TOLERANCE_NANOS = 2000000L; // vsync 시간의 오차 허용 범위
+
+    public interface Callback {
+        /**
+         * @param frameTimeNanos 이번 Frame의 시간(System.nanoTime 기준)
+         */
+        void onVsync(long frameTimeNanos);
+    }
+
+    private final Callback callback;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private FrameCallback frameCallback;
+
+    private boolean isRunning = false;
+    private long minFrameIntervalNanos = 0;
+    private long lastFrameTimeNanos = 0;
+
+    private final Runnable fallbackRunnable = new Runnable() {
+        @Override
+        public void run() {
+            doFrame(System.nanoTime());
+        }
+    };
+
+    public VsyncTicker(Callback callback) {
+        this.callback = callback;
+    }
+
+    /**
+     * Callback을 호출할 최대 횟수(초당)를 설정, 0 이하인 경우 매 vsync마다 호출
+     * 배터리 사용량을 줄이기 위해 화면 갱신 주기보다 낮게 제한할 수 있음
+     */
+    public void setMaxFrameRate(int framesPerSecond) {
+        minFrameIntervalNanos = framesPerSecond > 0 ? 1000000000L / framesPerSecond : 0;
+    }
+
+    public void start() {
+        if (isRunning) {
+            return;
+        }
+        isRunning = true;
+        lastFrameTimeNanos = 0;
+        postFrame();
+    }
+
+    /**
+     * 예약된 vsync Callback을 모두 제거하여 다시 start 될 때까지 아무 작업도 하지 않도록 함
+     */
+    public void stop() {
+        if (!isRunning) {
+            return;
+        }
+        isRunning = false;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            Choreographer.getInstance().removeFrameCallback(getFrameCallback());
+        } else {
+            handler.removeCallbacks(fallbackRunnable);
+        }
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    private void postFrame() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            Choreographer.getInstance().postFrameCallback(getFrameCallback());
+        } else {
+            handler.postDelayed(fallbackRunnable, FALLBACK_FRAME_INTERVAL_MS);
+        }
+    }
+
+    private void doFrame(long frameTimeNanos) {
+        if (!isRunning) {
+            return;
+        }
+
+        if (lastFrameTimeNanos == 0 || frameTimeNanos - lastFrameTimeNanos >= minFrameIntervalNanos - FRAME_INTERVAL_TOLERANCE_NANOS) {
+            lastFrameTimeNanos = frameTimeNanos;
+            callback.onVsync(frameTimeNanos);
+        }
+
+        // Callback에서 stop 된 경우 다음 Frame을 예약하지 않음
+        if (isRunning) {
+            postFrame();
+        }
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.JELLY_BEAN)
+    private FrameCallback getFrameCallback() {
+        if (frameCallback == null) {
+            frameCallback = new FrameCallback();
+        }
+        return frameCallback;
+    }
+
+    /**
+     * API 16 미만에서 Choreographer 참조로 인한 Class 검증 오류가 나지 않도록 별도의 Class로 분리
+     */
+    @RequiresApi(api = Build.VERSION_CODES.JELLY_BEAN)
+    private class FrameCallback implements Choreographer.FrameCallback {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            VsyncTicker.this.doFrame(frameTimeNanos);
+        }
+    }
+}
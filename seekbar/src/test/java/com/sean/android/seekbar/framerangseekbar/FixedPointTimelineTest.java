@@ -0,0 +1,80 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import com.sean.android.seekbar.NumberType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * FixedPointTimeline의 tick 변환이 반복해도 값이 바뀌지 않는지 확인하는 테스트
+ */
+public class FixedPointTimelineTest {
+
+    private static final long TEN_HOURS_MS = 10L * 60 * 60 * 1000;
+
+    @Test
+    public void tenHourRangeRoundTripsEveryMillisecondExactly() {
+        FixedPointTimeline timeline = new FixedPointTimeline();
+        timeline.setRange(NumberType.LONG, 0L, TEN_HOURS_MS, 1L);
+
+        for (long ms = 0; ms <= TEN_HOURS_MS; ms += 997) {
+            assertRoundTrip(timeline, ms);
+        }
+        assertRoundTrip(timeline, TEN_HOURS_MS - 1);
+        assertRoundTrip(timeline, TEN_HOURS_MS);
+    }
+
+    @Test
+    public void repeatedNormalizationDoesNotDrift() {
+        FixedPointTimeline timeline = new FixedPointTimeline();
+        timeline.setRange(NumberType.LONG, 1000L, 1000L + TEN_HOURS_MS, 1L);
+
+        long ticks = 1000L + 35999999L;
+        for (int i = 0; i < 10000; i++) {
+            ticks = timeline.normalizedToTicks(timeline.ticksToNormalized(ticks));
+        }
+        assertEquals(1000L + 35999999L, timeline.ticksToLong(timeline.roundToStep(ticks)));
+    }
+
+    @Test
+    public void stepIsAppliedWithIntegerRounding() {
+        FixedPointTimeline timeline = new FixedPointTimeline();
+        timeline.setRange(NumberType.LONG, -100L, 100L, 10L);
+
+        assertEquals(20, timeline.roundToStep(15));
+        assertEquals(10, timeline.roundToStep(14));
+        assertEquals(-10, timeline.roundToStep(-15));
+        assertEquals(-20, timeline.roundToStep(-16));
+        assertEquals(100, timeline.roundToStep(104));
+    }
+
+    @Test
+    public void floatingPointValuesKeepTwoDecimals() {
+        FixedPointTimeline timeline = new FixedPointTimeline();
+        timeline.setRange(NumberType.DOUBLE, 0d, 36000d, 0.5d);
+
+        long ticks = timeline.valueToTicks(1234.26d);
+        assertEquals(123426, ticks);
+        assertEquals(1234.5d, timeline.ticksToValue(timeline.roundToStep(ticks)), 0d);
+        assertEquals(1234.26d, timeline.ticksToValue(timeline.normalizedToTicks(timeline.ticksToNormalized(ticks))), 0d);
+    }
+
+    @Test
+    public void longValuesAboveDoublePrecisionStayExact() {
+        FixedPointTimeline timeline = new FixedPointTimeline();
+        long max = Long.MAX_VALUE - 1;
+        timeline.setRange(NumberType.LONG, 0L, max, 1L);
+
+        long ticks = timeline.valueToTicks(Long.valueOf(max));
+        assertEquals(max, timeline.ticksToLong(ticks));
+        assertEquals(Long.valueOf(max), timeline.ticksToNumber(ticks));
+        assertEquals(Long.valueOf((1L << 53) + 1), timeline.ticksToNumber((1L << 53) + 1));
+    }
+
+    private static void assertRoundTrip(FixedPointTimeline timeline, long ms) {
+        long ticks = timeline.valueToTicks(ms);
+        long roundTrip = timeline.normalizedToTicks(timeline.ticksToNormalized(ticks));
+        assertEquals(ms, timeline.ticksToLong(timeline.roundToStep(roundTrip)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * KeyframeIndex의 가장 가까운 Keyframe 탐색이 목록의 양 끝과 중간에서 올바른지 확인하는 테스트
+ */
+public class KeyframeIndexTest {
+
+    private final KeyframeIndex index = new KeyframeIndex(new long[]{4000000L, 0L, 2000000L});
+
+    @Test
+    public void emptyIndexReturnsRequestedTime() {
+        KeyframeIndex empty = new KeyframeIndex(new long[0]);
+
+        assertEquals(0, empty.size());
+        assertEquals(1234L, empty.getNearestTimeUs(1234L));
+    }
+
+    @Test
+    public void timesAreSorted() {
+        assertEquals(3, index.size());
+        assertEquals(0L, index.getTimeUs(0));
+        assertEquals(2000000L, index.getTimeUs(1));
+        assertEquals(4000000L, index.getTimeUs(2));
+    }
+
+    @Test
+    public void outOfRangeSnapsToFirstOrLast() {
+        assertEquals(0L, index.getNearestTimeUs(-5L));
+        assertEquals(4000000L, index.getNearestTimeUs(9000000L));
+    }
+
+    @Test
+    public void exactHitReturnsSameKeyframe() {
+        assertEquals(2000000L, index.getNearestTimeUs(2000000L));
+        assertEquals(4000000L, index.getNearestTimeUs(4000000L));
+    }
+
+    @Test
+    public void nearestKeyframeIsChosenAndTieGoesToEarlier() {
+        assertEquals(0L, index.getNearestTimeUs(999999L));
+        assertEquals(2000000L, index.getNearestTimeUs(1000001L));
+        assertEquals(0L, index.getNearestTimeUs(1000000L));
+        assertEquals(2000000L, index.getNearestTimeUs(3000000L));
+    }
+}
@@ -0,0 +1,141 @@
+package com.sean.android.seekbar.framerangseekbar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 가짜 Player로 Drag 중 Seek 요청이 줄어들고 손을 뗀 위치로 정확한 Seek이 한번 요청되는지 확인하는 테스트
+ */
+public class SeekSchedulerTest {
+
+    private FakePlayer player;
+    private SeekScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        player = new FakePlayer();
+        scheduler = new SeekScheduler(player);
+    }
+
+    @Test
+    public void dragStreamKeepsOneSeekInFlightAndEndsWithExactSeek() {
+        scheduler.onStartTrackingTouch(null);
+        // Player가 Touch Event 4개를 받는 동안 Seek 하나를 끝내는 경우
+        for (int i = 1; i <= 120; i++) {
+            scheduler.onFrameRangeSeekChanged(null, i * 100);
+            if (i % 4 == 0) {
+                player.complete(scheduler);
+            }
+        }
+        scheduler.onStopTrackingTouch(null);
+        scheduler.onFrameRangeSeekChanged(null, 12000);
+        player.completeAll(scheduler);
+
+        assertTrue("seek count " + player.seeks.size(), player.seeks.size() <= 32);
+        assertEquals(1, player.maxInFlight);
+        for (int i = 0; i < player.seeks.size() - 1; i++) {
+            assertEquals(SeekablePlayer.SeekMode.KEYFRAME, player.modes.get(i));
+        }
+        assertEquals(12000d, player.seeks.get(player.seeks.size() - 1), 0d);
+        assertEquals(SeekablePlayer.SeekMode.EXACT, player.modes.get(player.modes.size() - 1));
+    }
+
+    @Test
+    public void latestTargetReplacesPendingSeek() {
+        scheduler.startTracking();
+        scheduler.requestSeek(100);
+        scheduler.requestSeek(200);
+        scheduler.requestSeek(300);
+        scheduler.requestSeek(400);
+        player.completeAll(scheduler);
+
+        assertEquals(2, player.seeks.size());
+        assertEquals(100d, player.seeks.get(0), 0d);
+        assertEquals(400d, player.seeks.get(1), 0d);
+    }
+
+    @Test
+    public void releaseAtLastDraggedPositionStillSeeksExactly() {
+        scheduler.startTracking();
+        scheduler.requestSeek(500);
+        player.completeAll(scheduler);
+        scheduler.requestSeek(500);
+        scheduler.stopTracking();
+        scheduler.requestSeek(500);
+        scheduler.requestSeek(500);
+        player.completeAll(scheduler);
+
+        assertEquals(2, player.seeks.size());
+        assertEquals(SeekablePlayer.SeekMode.KEYFRAME, player.modes.get(0));
+        assertEquals(SeekablePlayer.SeekMode.EXACT, player.modes.get(1));
+    }
+
+    @Test
+    public void trimThumbSeeksToChangedValueAndExactOnRelease() {
+        scheduler.onFrameRangeSeekBarValuesChanged(null, 0, 10000);
+        player.completeAll(scheduler);
+        scheduler.onStartTrackingTouch(null);
+        scheduler.onFrameRangeSeekBarValuesChanged(null, 0, 9000);
+        player.completeAll(scheduler);
+        scheduler.onStopTrackingTouch(null);
+        scheduler.onFrameRangeSeekBarValuesChanged(null, 0, 9000);
+        player.completeAll(scheduler);
+
+        assertEquals(3, player.seeks.size());
+        assertEquals(9000d, player.seeks.get(1), 0d);
+        assertEquals(SeekablePlayer.SeekMode.KEYFRAME, player.modes.get(1));
+        assertEquals(9000d, player.seeks.get(2), 0d);
+        assertEquals(SeekablePlayer.SeekMode.EXACT, player.modes.get(2));
+    }
+
+    @Test
+    public void trimReleaseIgnoresPlayPathTarget() {
+        scheduler.onFrameRangeSeekBarValuesChanged(null, 0, 10000);
+        scheduler.onStartTrackingTouch(null);
+        scheduler.onFrameRangeSeekBarValuesChanged(null, 2000, 10000);
+        player.completeAll(scheduler);
+        scheduler.onStopTrackingTouch(null);
+        // 재생 위치가 갱신된 뒤에 Thumb을 놓은 경우
+        scheduler.onFrameRangeSeekChanged(null, 7000);
+        player.completeAll(scheduler);
+        scheduler.onFrameRangeSeekBarValuesChanged(null, 2000, 10000);
+        player.completeAll(scheduler);
+
+        assertEquals(2000d, player.seeks.get(player.seeks.size() - 1), 0d);
+        assertEquals(SeekablePlayer.SeekMode.EXACT, player.modes.get(player.modes.size() - 1));
+    }
+
+    private static class FakePlayer implements SeekablePlayer {
+        final List<Double> seeks = new ArrayList<>();
+        final List<SeekMode> modes = new ArrayList<>();
+        int inFlight = 0;
+        int maxInFlight = 0;
+
+        @Override
+        public void seekTo(double position, SeekMode mode) {
+            seeks.add(position);
+            modes.add(mode);
+            inFlight++;
+            maxInFlight = Math.max(maxInFlight, inFlight);
+        }
+
+        void complete(SeekScheduler scheduler) {
+            if (inFlight > 0) {
+                inFlight--;
+                scheduler.onSeekComplete();
+            }
+        }
+
+        void completeAll(SeekScheduler scheduler) {
+            while (inFlight > 0) {
+                complete(scheduler);
+            }
+        }
+    }
+}
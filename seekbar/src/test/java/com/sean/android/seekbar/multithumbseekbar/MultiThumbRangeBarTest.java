@@ -0,0 +1,91 @@
+package com.sean.android.seekbar.multithumbseekbar;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * MultiThumbRangeBar에서 Touch 위치로 Thumb을 찾는 이진 탐색을 확인하는 테스트
+ */
+public class MultiThumbRangeBarTest {
+
+    private static final float TOUCH_RADIUS = 20f;
+
+    @Test
+    public void noThumbReturnsNotFound() {
+        assertEquals(-1, find(new float[0], 100f));
+    }
+
+    @Test
+    public void nearestThumbWithinRadiusIsChosen() {
+        float[] positions = {100f, 200f, 300f};
+
+        assertEquals(0, find(positions, 105f));
+        assertEquals(1, find(positions, 195f));
+        assertEquals(1, find(positions, 200f));
+        assertEquals(2, find(positions, 280f));
+    }
+
+    @Test
+    public void touchOutsideRadiusReturnsNotFound() {
+        float[] positions = {100f, 200f, 300f};
+
+        assertEquals(-1, find(positions, 150f));
+        assertEquals(-1, find(positions, 121f));
+        assertEquals(-1, find(positions, 179f));
+    }
+
+    @Test
+    public void equalDistanceChoosesLeftThumb() {
+        float[] positions = {100f, 130f};
+
+        assertEquals(0, find(positions, 115f));
+    }
+
+    @Test
+    public void touchBeyondBothEndsFindsEdgeThumbs() {
+        float[] positions = {100f, 200f, 300f};
+
+        assertEquals(0, find(positions, 80f));
+        assertEquals(2, find(positions, 320f));
+        assertEquals(-1, find(positions, 79f));
+        assertEquals(-1, find(positions, 321f));
+    }
+
+    @Test
+    public void stackedThumbsPickTheOneThatCanMoveTowardTouch() {
+        float[] positions = {100f, 200f, 200f, 200f, 300f};
+
+        // 왼쪽에서 Touch하면 가장 왼쪽, 오른쪽에서 Touch하면 가장 오른쪽 Thumb
+        assertEquals(1, find(positions, 190f));
+        assertEquals(1, find(positions, 200f));
+        assertEquals(3, find(positions, 210f));
+    }
+
+    @Test
+    public void stackedThumbsAtBothEnds() {
+        float[] positions = {0f, 0f, 500f, 500f};
+
+        assertEquals(1, find(positions, 10f));
+        assertEquals(0, find(positions, 0f));
+        assertEquals(3, find(positions, 510f));
+        assertEquals(2, find(positions, 490f));
+    }
+
+    @Test
+    public void onlyCountedThumbsAreSearched() {
+        // 배열 뒤쪽의 여유 공간은 무시
+        float[] positions = {100f, 200f, 0f, 0f};
+
+        assertEquals(1, find(positions, 2, 210f));
+        assertEquals(-1, find(positions, 2, 10f));
+    }
+
+    private static int find(float[] positions, float touchX) {
+        return find(positions, positions.length, touchX);
+    }
+
+    private static int find(float[] positions, int count, float touchX) {
+        return MultiThumbRangeBar.findThumbIndex(positions, count, touchX, TOUCH_RADIUS);
+    }
+}